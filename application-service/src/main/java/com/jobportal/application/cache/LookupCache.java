@@ -0,0 +1,165 @@
+package com.jobportal.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.application.client.ReactiveJobServiceClient;
+import com.jobportal.application.client.ReactiveUserServiceClient;
+import com.jobportal.application.feign.JobServiceClient;
+import com.jobportal.application.feign.UserServiceClient;
+import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.JobDTO;
+import com.jobportal.common.dto.UserDTO;
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventBus;
+import com.jobportal.common.event.EventTypes;
+import com.jobportal.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded near-cache in front of the job-service and user-service clients, shared by the
+ * blocking Feign lookups and the non-blocking WebClient ones.
+ * Job entries expire after a TTL and are dropped early when the job is deleted. Users cannot
+ * be edited in user-service and publish no change event, so user entries rely on the TTL alone.
+ */
+@Component
+public class LookupCache {
+    private final JobServiceClient jobServiceClient;
+    private final UserServiceClient userServiceClient;
+    private final ReactiveJobServiceClient reactiveJobServiceClient;
+    private final ReactiveUserServiceClient reactiveUserServiceClient;
+    private final ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory;
+    private final Cache<Integer, JobDTO> jobs;
+    private final Cache<Integer, UserDTO> users;
+
+    public LookupCache(JobServiceClient jobServiceClient,
+                       UserServiceClient userServiceClient,
+                       ReactiveJobServiceClient reactiveJobServiceClient,
+                       ReactiveUserServiceClient reactiveUserServiceClient,
+                       ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory,
+                       EventBus eventBus,
+                       MeterRegistry meterRegistry,
+                       @Value("${lookup.cache.max-size:10000}") long maxSize,
+                       @Value("${lookup.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.jobServiceClient = jobServiceClient;
+        this.userServiceClient = userServiceClient;
+        this.reactiveJobServiceClient = reactiveJobServiceClient;
+        this.reactiveUserServiceClient = reactiveUserServiceClient;
+        this.circuitBreakerFactory = circuitBreakerFactory;
+        this.jobs = newCache(maxSize, ttlSeconds);
+        this.users = newCache(maxSize, ttlSeconds);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, jobs, "jobs");
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+
+        eventBus.subscribe(EventTypes.JOB_DELETED, this::evictJob);
+    }
+
+    public JobDTO getJob(int jobId) {
+        return jobs.get(jobId, id -> {
+            ApiResponse<JobDTO> response = jobServiceClient.getJobById(id);
+            if (!response.isStatus()) {
+                throw new ResourceNotFoundException("Job not found");
+            }
+            return response.getData();
+        });
+    }
+
+    /**
+     * Asks job-service even when the job is cached and never accepts a snapshot, since a
+     * snapshot can outlive a deleted job. The answer refreshes the cached entry.
+     */
+    public JobDTO confirmJob(int jobId) {
+        ApiResponse<JobDTO> response = jobServiceClient.confirmJobById(jobId);
+        if (!response.isStatus()) {
+            jobs.invalidate(jobId);
+            throw new ResourceNotFoundException("Job not found");
+        }
+        jobs.put(jobId, response.getData());
+        return response.getData();
+    }
+
+    public UserDTO getUser(int userId) {
+        return users.get(userId, id -> {
+            ApiResponse<UserDTO> response = userServiceClient.getUserById(id);
+            if (!response.isStatus()) {
+                throw new ResourceNotFoundException("User not found");
+            }
+            return response.getData();
+        });
+    }
+
+    public Map<Integer, JobDTO> getJobs(Collection<Integer> jobIds) {
+        return jobs.getAll(jobIds, missing -> jobServiceClient.getJobsByIds(Set.copyOf(missing)).getData()
+                .stream()
+                .collect(Collectors.toMap(JobDTO::getId, Function.identity())));
+    }
+
+    public Map<Integer, UserDTO> getUsers(Collection<Integer> userIds) {
+        return users.getAll(userIds, missing -> userServiceClient.getUsersByIds(Set.copyOf(missing)).getData()
+                .stream()
+                .collect(Collectors.toMap(UserDTO::getUserId, Function.identity())));
+    }
+
+    /**
+     * Non-blocking {@link #getJobs}: cached entries are returned as they are and the rest are
+     * fetched in one call through the job-service circuit breaker.
+     */
+    public Mono<Map<Integer, JobDTO>> getJobsReactive(Collection<Integer> jobIds) {
+        return getAllReactive(jobs, jobIds, missing -> circuitBreakerFactory.create("job-service")
+                .run(reactiveJobServiceClient.getJobsByIds(missing))
+                .map(response -> toMap(response.getData(), JobDTO::getId)));
+    }
+
+    public Mono<Map<Integer, UserDTO>> getUsersReactive(Collection<Integer> userIds) {
+        return getAllReactive(users, userIds, missing -> circuitBreakerFactory.create("user-service")
+                .run(reactiveUserServiceClient.getUsersByIds(missing))
+                .map(response -> toMap(response.getData(), UserDTO::getUserId)));
+    }
+
+    private static <V> Mono<Map<Integer, V>> getAllReactive(Cache<Integer, V> cache,
+                                                            Collection<Integer> ids,
+                                                            Function<Set<Integer>, Mono<Map<Integer, V>>> fetch) {
+        Map<Integer, V> found = new HashMap<>(cache.getAllPresent(ids));
+        Set<Integer> missing = ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missing.isEmpty()) {
+            return Mono.just(found);
+        }
+        return fetch.apply(missing).map(fetched -> {
+            cache.putAll(fetched);
+            found.putAll(fetched);
+            return found;
+        });
+    }
+
+    private static <V> Map<Integer, V> toMap(List<V> values, Function<V, Integer> id) {
+        return values.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private void evictJob(DomainEvent event) {
+        jobs.invalidate(event.getAggregateId());
+    }
+
+    private static <V> Cache<Integer, V> newCache(long maxSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+}
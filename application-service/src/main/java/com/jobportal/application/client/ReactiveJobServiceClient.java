@@ -0,0 +1,20 @@
+package com.jobportal.application.client;
+
+import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.JobDTO;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+// Non-blocking counterpart of JobServiceClient, backed by the load-balanced WebClient
+public interface ReactiveJobServiceClient {
+    @GetExchange("/api/jobs/{jobId}")
+    Mono<ApiResponse<JobDTO>> getJobById(@PathVariable("jobId") int jobId);
+
+    @GetExchange("/api/jobs")
+    Mono<ApiResponse<List<JobDTO>>> getJobsByIds(@RequestParam("ids") Collection<Integer> ids);
+}
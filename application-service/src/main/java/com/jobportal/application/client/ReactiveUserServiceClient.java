@@ -0,0 +1,20 @@
+package com.jobportal.application.client;
+
+import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.UserDTO;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+// Non-blocking counterpart of UserServiceClient, backed by the load-balanced WebClient
+public interface ReactiveUserServiceClient {
+    @GetExchange("/api/users/{id}")
+    Mono<ApiResponse<UserDTO>> getUserById(@PathVariable("id") int id);
+
+    @GetExchange("/api/users")
+    Mono<ApiResponse<List<UserDTO>>> getUsersByIds(@RequestParam("ids") Collection<Integer> ids);
+}
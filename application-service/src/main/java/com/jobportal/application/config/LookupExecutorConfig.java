@@ -0,0 +1,22 @@
+package com.jobportal.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class LookupExecutorConfig {
+
+    // Bounded pool for concurrent job-service/user-service lookups; overflow is rejected, not queued forever
+    @Bean
+    public ThreadPoolTaskExecutor lookupExecutor(@Value("${lookup.executor.pool-size:32}") int poolSize,
+                                                 @Value("${lookup.executor.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("lookup-");
+        return executor;
+    }
+}
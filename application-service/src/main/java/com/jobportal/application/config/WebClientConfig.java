@@ -0,0 +1,56 @@
+package com.jobportal.application.config;
+
+import com.jobportal.application.client.ReactiveJobServiceClient;
+import com.jobportal.application.client.ReactiveUserServiceClient;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class WebClientConfig {
+
+    // Resolves http://job-service and http://user-service through Eureka, like the Feign clients
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(
+            @Value("${webclient.max-connections:500}") int maxConnections,
+            @Value("${webclient.connect-timeout-ms:500}") int connectTimeoutMs,
+            @Value("${webclient.response-timeout-ms:2000}") long responseTimeoutMs) {
+        ConnectionProvider pool = ConnectionProvider.builder("lookups")
+                .maxConnections(maxConnections)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .compress(true);
+        return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    @Bean
+    public ReactiveJobServiceClient reactiveJobServiceClient(@LoadBalanced WebClient.Builder builder) {
+        return createClient(builder, "http://job-service", ReactiveJobServiceClient.class);
+    }
+
+    @Bean
+    public ReactiveUserServiceClient reactiveUserServiceClient(@LoadBalanced WebClient.Builder builder) {
+        return createClient(builder, "http://user-service", ReactiveUserServiceClient.class);
+    }
+
+    private static <T> T createClient(WebClient.Builder builder, String baseUrl, Class<T> type) {
+        WebClient webClient = builder.clone().baseUrl(baseUrl).build();
+        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient))
+                .build()
+                .createClient(type);
+    }
+}
@@ -1,14 +1,20 @@
 package com.jobportal.application.controller;
 
+import com.jobportal.application.dto.BulkStatusRequest;
+import com.jobportal.application.dto.BulkStatusResult;
 import com.jobportal.application.dto.JobAppRequest;
 import com.jobportal.application.dto.JobAppResponse;
+import com.jobportal.application.dto.JobStats;
+import com.jobportal.application.service.ApplicationStatsService;
 import com.jobportal.application.service.JobApplicationService;
 import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -17,6 +23,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JobApplicationController {
     private final JobApplicationService applicationService;
+    private final ApplicationStatsService statsService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> apply(
@@ -27,21 +34,41 @@ public class JobApplicationController {
     }
 
     @GetMapping("/my-applications")
-    public ResponseEntity<ApiResponse<List<JobAppResponse>>> getMyApplications(
+    public Mono<ResponseEntity<ApiResponse<List<JobAppResponse>>>> getMyApplications(
             @RequestHeader("X-User-Id") int userId) {
-        return ResponseEntity.ok(applicationService.getApplicationsByUser(userId));
+        return applicationService.getApplicationsByUser(userId).map(ResponseEntity::ok);
+    }
+
+    // Applications per status for each of the caller's jobs
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<JobStats>>> getStats(
+            @RequestHeader("X-User-Id") int userId) {
+        return ResponseEntity.ok(ApiResponse.success("Stats fetched", statsService.getStats(userId)));
     }
 
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<ApiResponse<Page<JobAppResponse>>> getApplicationsByJob(
+    public Mono<ResponseEntity<ApiResponse<Page<JobAppResponse>>>> getApplicationsByJob(
             @PathVariable int jobId,
             @RequestHeader("X-User-Id") int userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "5") int size,
             @RequestParam(defaultValue = "appliedAt") String sortBy,
             @RequestParam(defaultValue = "desc") String direction) {
-        return ResponseEntity.ok(
-                applicationService.getApplicationsByJob(jobId, userId, page, size, sortBy, direction));
+        return applicationService.getApplicationsByJob(jobId, userId, page, size, sortBy, direction)
+                .map(ResponseEntity::ok);
+    }
+
+    // Keyset mode: selected by the presence of the cursor parameter (empty for the first page)
+    @GetMapping(value = "/job/{jobId}", params = "cursor")
+    public Mono<ResponseEntity<ApiResponse<CursorPage<JobAppResponse>>>> getApplicationsByJobCursor(
+            @PathVariable int jobId,
+            @RequestHeader("X-User-Id") int userId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(defaultValue = "appliedAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction) {
+        return applicationService.getApplicationsByJobCursor(jobId, userId, cursor, size, sortBy, direction)
+                .map(ResponseEntity::ok);
     }
 
     @PutMapping("/{applicationId}/status")
@@ -51,4 +78,11 @@ public class JobApplicationController {
             @RequestHeader("X-User-Id") int userId) {
         return ResponseEntity.ok(applicationService.updateStatus(applicationId, status, userId));
     }
+
+    @PutMapping("/status")
+    public ResponseEntity<ApiResponse<List<BulkStatusResult>>> updateStatuses(
+            @RequestBody BulkStatusRequest request,
+            @RequestHeader("X-User-Id") int userId) {
+        return ResponseEntity.ok(applicationService.updateStatuses(request, userId));
+    }
 }
\ No newline at end of file
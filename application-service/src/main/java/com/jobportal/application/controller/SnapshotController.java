@@ -0,0 +1,24 @@
+package com.jobportal.application.controller;
+
+import com.jobportal.application.service.SnapshotService;
+import com.jobportal.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// Operator-only: re-syncs the job/user snapshots from the owning services
+@RestController
+@RequestMapping("/internal/snapshots")
+@RequiredArgsConstructor
+public class SnapshotController {
+    private final SnapshotService snapshotService;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Integer>>> rebuild() {
+        return ResponseEntity.ok(ApiResponse.success("Snapshots rebuilt", snapshotService.rebuild()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.jobportal.application.controller;
+
+import com.jobportal.application.service.ApplicationStatsService;
+import com.jobportal.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Operator-only: recounts the per-job application counters from the applications table
+@RestController
+@RequestMapping("/internal/stats")
+@RequiredArgsConstructor
+public class StatsController {
+    private final ApplicationStatsService statsService;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuild() {
+        return ResponseEntity.ok(ApiResponse.success("Counters rebuilt", statsService.rebuild()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobportal.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusRequest {
+    private List<Integer> applicationIds;
+    private String status;
+}
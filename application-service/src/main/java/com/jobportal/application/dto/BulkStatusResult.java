@@ -0,0 +1,13 @@
+package com.jobportal.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResult {
+    private int applicationId;
+    private String outcome; // UPDATED, NOT_FOUND or UNAUTHORIZED
+}
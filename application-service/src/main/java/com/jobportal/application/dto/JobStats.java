@@ -0,0 +1,17 @@
+package com.jobportal.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStats {
+    private int jobId;
+    private String title;
+    private Map<String, Long> counts; // status -> number of applications
+    private long total;
+}
@@ -5,9 +5,20 @@ import com.jobportal.common.dto.JobDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "job-service")
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "job-service", fallbackFactory = JobServiceClientFallback.class)
 public interface JobServiceClient {
     @GetMapping("/api/jobs/{jobId}")
     ApiResponse<JobDTO> getJobById(@PathVariable("jobId") int jobId);
+
+    // Same call, but its fallback never serves a snapshot: for checks that the job still exists
+    @GetMapping("/api/jobs/{jobId}")
+    ApiResponse<JobDTO> confirmJobById(@PathVariable("jobId") int jobId);
+
+    @GetMapping("/api/jobs")
+    ApiResponse<List<JobDTO>> getJobsByIds(@RequestParam("ids") Collection<Integer> ids);
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.jobportal.application.feign;
+
+import com.jobportal.application.model.JobSnapshot;
+import com.jobportal.application.repository.JobSnapshotRepository;
+import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.JobDTO;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Used when job-service fails, times out, is short-circuited or its bulkhead is full:
+ * serves jobs from the local snapshots, except to {@code confirmJobById}. A 404 is passed on
+ * as "not found".
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobServiceClientFallback implements FallbackFactory<JobServiceClient> {
+    private final JobSnapshotRepository jobSnapshotRepository;
+
+    @Override
+    public JobServiceClient create(Throwable cause) {
+        return new JobServiceClient() {
+            @Override
+            public ApiResponse<JobDTO> getJobById(int jobId) {
+                if (isNotFound(cause)) {
+                    return ApiResponse.failure("Job not found");
+                }
+                JobDTO job = jobSnapshotRepository.findById(jobId)
+                        .map(JobSnapshot::toDto)
+                        .orElseThrow(() -> new RuntimeException("Job service unavailable", cause));
+                log.warn("Serving job {} from snapshot: {}", jobId, cause.toString());
+                return ApiResponse.success("Job fetched from snapshot", job);
+            }
+
+            @Override
+            public ApiResponse<JobDTO> confirmJobById(int jobId) {
+                if (isNotFound(cause)) {
+                    return ApiResponse.failure("Job not found");
+                }
+                throw new RuntimeException("Job service unavailable", cause);
+            }
+
+            @Override
+            public ApiResponse<List<JobDTO>> getJobsByIds(Collection<Integer> ids) {
+                List<JobDTO> jobs = jobSnapshotRepository.findAllById(ids)
+                        .stream()
+                        .map(JobSnapshot::toDto)
+                        .toList();
+                log.warn("Serving {}/{} jobs from snapshots: {}", jobs.size(), ids.size(), cause.toString());
+                return ApiResponse.success("Jobs fetched from snapshots", jobs);
+            }
+        };
+    }
+
+    // The breaker may hand over the Feign exception wrapped by the bulkhead's executor
+    private static boolean isNotFound(Throwable cause) {
+        return cause instanceof FeignException.NotFound || cause.getCause() instanceof FeignException.NotFound;
+    }
+}
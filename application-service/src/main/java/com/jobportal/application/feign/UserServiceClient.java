@@ -5,9 +5,16 @@ import com.jobportal.common.dto.UserDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "user-service")
+import java.util.Collection;
+import java.util.List;
+
+@FeignClient(name = "user-service", fallbackFactory = UserServiceClientFallback.class)
 public interface UserServiceClient {
     @GetMapping("/api/users/{id}")
     ApiResponse<UserDTO> getUserById(@PathVariable("id") int id);
+
+    @GetMapping("/api/users")
+    ApiResponse<List<UserDTO>> getUsersByIds(@RequestParam("ids") Collection<Integer> ids);
 }
\ No newline at end of file
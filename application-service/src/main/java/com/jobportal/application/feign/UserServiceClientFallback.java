@@ -0,0 +1,57 @@
+package com.jobportal.application.feign;
+
+import com.jobportal.application.model.UserSnapshot;
+import com.jobportal.application.repository.UserSnapshotRepository;
+import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.UserDTO;
+import feign.FeignException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Used when user-service fails, times out, is short-circuited or its bulkhead is full:
+ * serves users from the local snapshots. A 404 is passed on as "not found".
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserServiceClientFallback implements FallbackFactory<UserServiceClient> {
+    private final UserSnapshotRepository userSnapshotRepository;
+
+    @Override
+    public UserServiceClient create(Throwable cause) {
+        return new UserServiceClient() {
+            @Override
+            public ApiResponse<UserDTO> getUserById(int id) {
+                if (isNotFound(cause)) {
+                    return ApiResponse.failure("User not found");
+                }
+                UserDTO user = userSnapshotRepository.findById(id)
+                        .map(UserSnapshot::toDto)
+                        .orElseThrow(() -> new RuntimeException("User service unavailable", cause));
+                log.warn("Serving user {} from snapshot: {}", id, cause.toString());
+                return ApiResponse.success("User fetched from snapshot", user);
+            }
+
+            @Override
+            public ApiResponse<List<UserDTO>> getUsersByIds(Collection<Integer> ids) {
+                List<UserDTO> users = userSnapshotRepository.findAllById(ids)
+                        .stream()
+                        .map(UserSnapshot::toDto)
+                        .toList();
+                log.warn("Serving {}/{} users from snapshots: {}", users.size(), ids.size(), cause.toString());
+                return ApiResponse.success("Users fetched from snapshots", users);
+            }
+        };
+    }
+
+    // The breaker may hand over the Feign exception wrapped by the bulkhead's executor
+    private static boolean isNotFound(Throwable cause) {
+        return cause instanceof FeignException.NotFound || cause.getCause() instanceof FeignException.NotFound;
+    }
+}
@@ -0,0 +1,37 @@
+package com.jobportal.application.model;
+
+import com.jobportal.common.dto.JobDTO;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Local copy of the job-service fields rendered in JobAppResponse
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobSnapshot {
+    @Id
+    private int jobId;
+
+    private String title;
+    private String description;
+    private String location;
+    private String companyName;
+    private String salary;
+    private String jobType;
+
+    @Column(nullable = false)
+    private int postedBy;
+
+    private LocalDateTime syncedAt;
+
+    public JobDTO toDto() {
+        return new JobDTO(jobId, title, description, location, companyName, salary, jobType, postedBy);
+    }
+}
@@ -0,0 +1,36 @@
+package com.jobportal.application.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+// Number of applications per (job, status), maintained by ApplicationStatsService
+@Entity
+@IdClass(JobStatusCount.Key.class)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobStatusCount {
+    @Id
+    private int jobId;
+
+    @Id
+    private String status;
+
+    @Column(nullable = false)
+    private long applicationCount;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private int jobId;
+        private String status;
+    }
+}
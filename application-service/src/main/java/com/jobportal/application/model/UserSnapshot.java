@@ -0,0 +1,30 @@
+package com.jobportal.application.model;
+
+import com.jobportal.common.dto.UserDTO;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Local copy of the user-service fields rendered in JobAppResponse
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSnapshot {
+    @Id
+    private int userId;
+
+    private String name;
+    private String email;
+    private String role;
+
+    private LocalDateTime syncedAt;
+
+    public UserDTO toDto() {
+        return new UserDTO(userId, name, email, role);
+    }
+}
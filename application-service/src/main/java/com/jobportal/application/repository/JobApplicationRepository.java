@@ -1,14 +1,58 @@
 package com.jobportal.application.repository;
 
 import com.jobportal.application.model.JobApplication;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+// Read methods run read-only so they can be served by a replica; the service methods return Mono
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Integer> {
+    @Transactional(readOnly = true)
     List<JobApplication> findAllByUserId(int userId);
+
+    @Transactional(readOnly = true)
     Page<JobApplication> findAllByJobId(int jobId, Pageable pageable);
+
     boolean existsByJobIdAndUserId(int jobId, int userId);
+
+    @Query("select distinct a.jobId from JobApplication a")
+    List<Integer> findDistinctJobIds();
+
+    @Query("select distinct a.userId from JobApplication a")
+    List<Integer> findDistinctUserIds();
+
+    // Status changes lock the rows first, so the status read is the one being replaced
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<JobApplication> findForUpdateById(int id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<JobApplication> findAllForUpdateByIdInOrderByIdAsc(Collection<Integer> ids);
+
+    @Modifying
+    @Query("update JobApplication a set a.status = :status where a.id in :ids")
+    int updateStatusByIdIn(Collection<Integer> ids, String status);
+
+    // Keyset pagination on (appliedAt, id); List return types skip the count query
+    @Transactional(readOnly = true)
+    List<JobApplication> findPageByJobId(int jobId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("select a from JobApplication a where a.jobId = :jobId and " +
+            "(a.appliedAt < :appliedAt or (a.appliedAt = :appliedAt and a.id < :id))")
+    List<JobApplication> findPageByJobIdBefore(int jobId, LocalDateTime appliedAt, int id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("select a from JobApplication a where a.jobId = :jobId and " +
+            "(a.appliedAt > :appliedAt or (a.appliedAt = :appliedAt and a.id > :id))")
+    List<JobApplication> findPageByJobIdAfter(int jobId, LocalDateTime appliedAt, int id, Pageable pageable);
 }
\ No newline at end of file
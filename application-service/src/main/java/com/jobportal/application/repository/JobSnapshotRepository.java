@@ -0,0 +1,7 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.model.JobSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobSnapshotRepository extends JpaRepository<JobSnapshot, Integer> {
+}
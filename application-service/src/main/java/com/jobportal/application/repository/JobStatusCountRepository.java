@@ -0,0 +1,28 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.model.JobStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface JobStatusCountRepository extends JpaRepository<JobStatusCount, JobStatusCount.Key> {
+
+    interface JobStatusCountView {
+        int getJobId();
+        String getTitle();
+        String getStatus();
+        long getApplicationCount();
+    }
+
+    // Jobs are attributed to a recruiter through the local job snapshots
+    @Query("select s.jobId as jobId, s.title as title, c.status as status, c.applicationCount as applicationCount " +
+            "from JobSnapshot s join JobStatusCount c on c.jobId = s.jobId where s.postedBy = :postedBy")
+    List<JobStatusCountView> findAllByPostedBy(int postedBy);
+
+    @Modifying
+    @Query(value = "insert into job_status_count (job_id, status, application_count) " +
+            "select job_id, status, count(*) from job_application group by job_id, status", nativeQuery = true)
+    int insertFromApplications();
+}
@@ -0,0 +1,7 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.model.UserSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserSnapshotRepository extends JpaRepository<UserSnapshot, Integer> {
+}
@@ -0,0 +1,179 @@
+package com.jobportal.application.service;
+
+import com.jobportal.application.cache.LookupCache;
+import com.jobportal.application.dto.JobAppResponse;
+import com.jobportal.application.model.JobApplication;
+import com.jobportal.common.dto.JobDTO;
+import com.jobportal.common.dto.UserDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a page of applications into responses. Jobs and users are read from the local
+ * snapshots first; only ids without a snapshot go to the owning service, and whatever comes
+ * back is recorded. The remaining user and job lookups for the page run
+ * concurrently, each with its own timeout, so latency is the slower of the two calls rather
+ * than their sum. A lookup that fails or times out degrades to placeholder DTOs carrying only
+ * the id instead of failing the whole page.
+ * <p>
+ * Lookups go through the Feign clients on the bounded lookup executor, or, with
+ * {@code lookup.reactive=true}, through the WebClient clients without holding any thread
+ * while the calls are in flight.
+ */
+@Slf4j
+@Component
+public class ApplicationHydrator {
+    private final LookupCache lookupCache;
+    private final SnapshotService snapshotService;
+    private final Executor lookupExecutor;
+    private final long timeoutMs;
+    private final boolean reactive;
+
+    public ApplicationHydrator(LookupCache lookupCache,
+                               SnapshotService snapshotService,
+                               @Qualifier("lookupExecutor") Executor lookupExecutor,
+                               @Value("${lookup.timeout-ms:1000}") long timeoutMs,
+                               @Value("${lookup.reactive:false}") boolean reactive) {
+        this.lookupCache = lookupCache;
+        this.snapshotService = snapshotService;
+        this.lookupExecutor = lookupExecutor;
+        this.timeoutMs = timeoutMs;
+        this.reactive = reactive;
+    }
+
+    public Mono<List<JobAppResponse>> hydrate(List<JobApplication> applications) {
+        return hydrate(applications, null);
+    }
+
+    /**
+     * @param knownJob job the caller has already loaded (e.g. for an ownership check);
+     *                 when given, only users are looked up
+     */
+    public Mono<List<JobAppResponse>> hydrate(List<JobApplication> applications, JobDTO knownJob) {
+        if (applications.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        Set<Integer> userIds = collect(applications, JobApplication::getUserId);
+        Map<Integer, UserDTO> userMap = new HashMap<>(snapshotService.findUsers(userIds));
+        Map<Integer, JobDTO> jobMap = new HashMap<>();
+        if (knownJob != null) {
+            jobMap.put(knownJob.getId(), knownJob);
+        } else {
+            jobMap.putAll(snapshotService.findJobs(collect(applications, JobApplication::getJobId)));
+        }
+
+        Set<Integer> missingUsers = missing(applications, JobApplication::getUserId, userMap);
+        Set<Integer> missingJobs = missing(applications, JobApplication::getJobId, jobMap);
+        Mono<Map<Integer, UserDTO>> users = missingUsers.isEmpty()
+                ? Mono.just(Map.of())
+                : reactive
+                ? lookupReactive("users", lookupCache.getUsersReactive(missingUsers))
+                : Mono.fromFuture(lookup("users", () -> lookupCache.getUsers(missingUsers)));
+        Mono<Map<Integer, JobDTO>> jobs = missingJobs.isEmpty()
+                ? Mono.just(Map.of())
+                : reactive
+                ? lookupReactive("jobs", lookupCache.getJobsReactive(missingJobs))
+                : Mono.fromFuture(lookup("jobs", () -> lookupCache.getJobs(missingJobs)));
+
+        return Mono.zip(users, jobs)
+                // Snapshot writes are blocking JPA calls; keep them off the Netty event loop
+                .publishOn(Schedulers.boundedElastic())
+                .map(fetched -> {
+                    Map<Integer, UserDTO> fetchedUsers = fetched.getT1();
+                    Map<Integer, JobDTO> fetchedJobs = fetched.getT2();
+                    if (!fetchedUsers.isEmpty()) {
+                        snapshotService.saveUsers(fetchedUsers.values());
+                        userMap.putAll(fetchedUsers);
+                    }
+                    if (!fetchedJobs.isEmpty()) {
+                        snapshotService.saveJobs(fetchedJobs.values());
+                        jobMap.putAll(fetchedJobs);
+                    }
+                    return applications.stream()
+                            .map(application -> mapToResponse(application, userMap, jobMap))
+                            .toList();
+                });
+    }
+
+    private <T> Mono<Map<Integer, T>> lookupReactive(String name, Mono<Map<Integer, T>> call) {
+        return call
+                .timeout(Duration.ofMillis(timeoutMs))
+                .onErrorResume(e -> {
+                    log.warn("Lookup of {} failed, serving placeholders: {}", name, e.toString());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private <T> CompletableFuture<Map<Integer, T>> lookup(String name, Supplier<Map<Integer, T>> call) {
+        CompletableFuture<Map<Integer, T>> future;
+        try {
+            future = CompletableFuture.supplyAsync(call, lookupExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Lookup executor saturated, serving placeholder {}", name);
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return future
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("Lookup of {} failed, serving placeholders: {}", name, e.toString());
+                    return Map.of();
+                });
+    }
+
+    private JobAppResponse mapToResponse(JobApplication application,
+                                         Map<Integer, UserDTO> users,
+                                         Map<Integer, JobDTO> jobs) {
+        JobAppResponse response = new JobAppResponse();
+        response.setApplicationId(application.getId());
+        response.setUser(users.getOrDefault(application.getUserId(), placeholderUser(application.getUserId())));
+        response.setJob(jobs.getOrDefault(application.getJobId(), placeholderJob(application.getJobId())));
+        response.setStatus(application.getStatus());
+        response.setAppliedAt(application.getAppliedAt());
+
+        return response;
+    }
+
+    private static UserDTO placeholderUser(int userId) {
+        UserDTO user = new UserDTO();
+        user.setUserId(userId);
+        return user;
+    }
+
+    private static JobDTO placeholderJob(int jobId) {
+        JobDTO job = new JobDTO();
+        job.setId(jobId);
+        return job;
+    }
+
+    private static Set<Integer> missing(Collection<JobApplication> applications,
+                                        Function<JobApplication, Integer> id,
+                                        Map<Integer, ?> found) {
+        Set<Integer> ids = collect(applications, id);
+        ids.removeAll(found.keySet());
+        return ids;
+    }
+
+    private static Set<Integer> collect(Collection<JobApplication> applications,
+                                        Function<JobApplication, Integer> id) {
+        return applications.stream().map(id).collect(Collectors.toCollection(HashSet::new));
+    }
+}
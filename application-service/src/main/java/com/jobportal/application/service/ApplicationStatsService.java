@@ -0,0 +1,166 @@
+package com.jobportal.application.service;
+
+import com.jobportal.application.dto.JobStats;
+import com.jobportal.application.model.JobApplication;
+import com.jobportal.application.model.JobStatusCount;
+import com.jobportal.application.repository.JobStatusCountRepository;
+import com.jobportal.application.repository.JobStatusCountRepository.JobStatusCountView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-(job, status) application counters. Status changes are added to striped in-memory
+ * counters when their transaction commits and flushed to {@code job_status_count} with one
+ * batched upsert, so the hot write paths never contend on a counter row. Deltas not yet
+ * flushed are lost on a crash; {@link #rebuild()} recounts from the applications table.
+ */
+@Slf4j
+@Service
+public class ApplicationStatsService {
+    private static final String UPSERT = "insert into job_status_count (job_id, status, application_count) " +
+            "values (?, ?, ?) as new on duplicate key update application_count = application_count + new.application_count";
+
+    private final JobStatusCountRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean rebuildOnStartup;
+    private final Map<JobStatusCount.Key, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ApplicationStatsService(JobStatusCountRepository repository,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${stats.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * Counts one application moving from {@code from} (null for a new one) to {@code to}.
+     * {@code from} must be read under a row lock, or concurrent changes make the counters drift.
+     */
+    public void recordTransition(int jobId, String from, String to) {
+        Map<JobStatusCount.Key, Long> deltas = new HashMap<>();
+        addTransition(deltas, jobId, from, to);
+        afterCommit(deltas);
+    }
+
+    /** Counts each application moving from its current status to {@code to}; lock the rows first. */
+    public void recordTransitions(Collection<JobApplication> applications, String to) {
+        Map<JobStatusCount.Key, Long> deltas = new HashMap<>();
+        applications.forEach(a -> addTransition(deltas, a.getJobId(), a.getStatus(), to));
+        afterCommit(deltas);
+    }
+
+    /** Counts for every job the recruiter has applications on, including deltas not yet flushed. */
+    public List<JobStats> getStats(int recruiterId) {
+        Map<Integer, JobStats> stats = new LinkedHashMap<>();
+        for (JobStatusCountView row : repository.findAllByPostedBy(recruiterId)) {
+            long count = row.getApplicationCount() + pendingCount(row.getJobId(), row.getStatus());
+            JobStats job = stats.computeIfAbsent(row.getJobId(),
+                    id -> new JobStats(id, row.getTitle(), new TreeMap<>(), 0));
+            job.getCounts().put(row.getStatus(), count);
+            job.setTotal(job.getTotal() + count);
+        }
+        return new ArrayList<>(stats.values());
+    }
+
+    @Scheduled(fixedDelayString = "${stats.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((key, counter) -> {
+            // Subtract what was read rather than reset, so concurrent increments are kept
+            long delta = counter.sum();
+            counter.add(-delta);
+            if (delta != 0) {
+                batch.add(new Object[]{key.getJobId(), key.getStatus(), delta});
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT, batch));
+        } catch (RuntimeException e) {
+            log.warn("Flushing {} application counter(s) failed, retrying next round: {}", batch.size(), e.toString());
+            batch.forEach(row -> add(new JobStatusCount.Key((int) row[0], (String) row[1]), (long) row[2]));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the counters with a fresh count of the applications table. Deltas committed
+     * while this runs may be counted twice, so run it while writes are quiet.
+     *
+     * @return number of (job, status) rows written
+     */
+    public synchronized int rebuild() {
+        pending.clear();
+        int rows = transactionTemplate.execute(status -> {
+            repository.deleteAllInBatch();
+            return repository.insertFromApplications();
+        });
+        log.info("Rebuilt {} application counter row(s)", rows);
+        return rows;
+    }
+
+    private long pendingCount(int jobId, String status) {
+        LongAdder counter = pending.get(new JobStatusCount.Key(jobId, status));
+        return counter != null ? counter.sum() : 0;
+    }
+
+    private void afterCommit(Map<JobStatusCount.Key, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.forEach(this::add);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deltas.forEach(ApplicationStatsService.this::add);
+            }
+        });
+    }
+
+    private void add(JobStatusCount.Key key, long delta) {
+        pending.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    private static void addTransition(Map<JobStatusCount.Key, Long> deltas, int jobId, String from, String to) {
+        if (to.equals(from)) {
+            return;
+        }
+        if (from != null) {
+            deltas.merge(new JobStatusCount.Key(jobId, from), -1L, Long::sum);
+        }
+        deltas.merge(new JobStatusCount.Key(jobId, to), 1L, Long::sum);
+    }
+}
@@ -1,78 +1,104 @@
 package com.jobportal.application.service;
 
+import com.jobportal.application.cache.LookupCache;
+import com.jobportal.application.dto.BulkStatusRequest;
+import com.jobportal.application.dto.BulkStatusResult;
 import com.jobportal.application.dto.JobAppRequest;
 import com.jobportal.application.dto.JobAppResponse;
-import com.jobportal.application.feign.JobServiceClient;
-import com.jobportal.application.feign.UserServiceClient;
 import com.jobportal.application.model.JobApplication;
 import com.jobportal.application.repository.JobApplicationRepository;
 import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.CursorPage;
 import com.jobportal.common.dto.JobDTO;
 import com.jobportal.common.dto.UserDTO;
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventTypes;
 import com.jobportal.common.exception.ResourceNotFoundException;
+import com.jobportal.common.outbox.Outbox;
+import com.jobportal.common.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class JobApplicationService {
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final Set<String> STATUSES = Set.of("APPLIED", "SHORTLISTED", "REJECTED");
+
     private final JobApplicationRepository applicationRepository;
-    private final UserServiceClient userServiceClient;
-    private final JobServiceClient jobServiceClient;
+    private final LookupCache lookupCache;
+    private final SnapshotService snapshotService;
+    private final ApplicationHydrator applicationHydrator;
+    private final ApplicationStatsService statsService;
+    private final Outbox outbox;
+    private final TransactionTemplate transactionTemplate;
 
     public ApiResponse<Void> apply(JobAppRequest request, int userId) {
-        // Verify job exists
-        ApiResponse<JobDTO> jobResponse = jobServiceClient.getJobById(request.getJobId());
-        if (!jobResponse.isStatus()) {
-            throw new ResourceNotFoundException("Job not found");
-        }
-        JobDTO job = jobResponse.getData();
+        // Remote lookups run before the transaction so no connection is held across them.
+        // Verify job exists (confirmed by job-service, not the cache or a snapshot)
+        JobDTO job = lookupCache.confirmJob(request.getJobId());
 
         // Check if user is trying to apply to their own job
         if (job.getPostedBy() == userId) {
             throw new RuntimeException("Cannot apply to your own job");
         }
-
-        // Check if already applied
-        if (applicationRepository.existsByJobIdAndUserId(request.getJobId(), userId)) {
+        UserDTO user = lookupCache.getUser(userId);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Check if already applied
+                if (applicationRepository.existsByJobIdAndUserId(request.getJobId(), userId)) {
+                    throw new RuntimeException("Already applied to this job");
+                }
+
+                JobApplication application = new JobApplication();
+                application.setJobId(request.getJobId());
+                application.setUserId(userId);
+                application.setStatus("APPLIED");
+                application.setAppliedAt(LocalDateTime.now());
+                JobApplication saved = applicationRepository.save(application);
+                outbox.append(DomainEvent.of(EventTypes.APPLICATION_SUBMITTED, saved.getId()));
+                statsService.recordTransition(saved.getJobId(), null, saved.getStatus());
+
+                snapshotService.saveJob(job);
+                snapshotService.saveUser(user);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent apply won the unique (job_id, user_id) constraint
             throw new RuntimeException("Already applied to this job");
         }
 
-        JobApplication application = new JobApplication();
-        application.setJobId(request.getJobId());
-        application.setUserId(userId);
-        application.setStatus("APPLIED");
-        application.setAppliedAt(LocalDateTime.now());
-        applicationRepository.save(application);
-
         return ApiResponse.success("Applied successfully", null);
     }
 
-    public ApiResponse<List<JobAppResponse>> getApplicationsByUser(int userId) {
+    public Mono<ApiResponse<List<JobAppResponse>>> getApplicationsByUser(int userId) {
         List<JobApplication> applications = applicationRepository.findAllByUserId(userId);
-        List<JobAppResponse> responses = applications.stream()
-                .map(this::mapToResponse)
-                .toList();
-        return ApiResponse.success("Applications fetched", responses);
+        return applicationHydrator.hydrate(applications)
+                .map(responses -> ApiResponse.success("Applications fetched", responses));
     }
 
-    public ApiResponse<Page<JobAppResponse>> getApplicationsByJob(
+    public Mono<ApiResponse<Page<JobAppResponse>>> getApplicationsByJob(
             int jobId, int userId, int page, int size, String sortBy, String direction) {
 
         // Verify the job belongs to the user
-        ApiResponse<JobDTO> jobResponse = jobServiceClient.getJobById(jobId);
-        if (!jobResponse.isStatus()) {
-            throw new ResourceNotFoundException("Job not found");
-        }
-
-        JobDTO job = jobResponse.getData();
+        JobDTO job = snapshotService.getJob(jobId);
         if (job.getPostedBy() != userId) {
             throw new RuntimeException("Unauthorized to view applications");
         }
@@ -81,45 +107,140 @@ public class JobApplicationService {
                 ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<JobAppResponse> applications = applicationRepository
-                .findAllByJobId(jobId, pageable)
-                .map(this::mapToResponse);
+        Page<JobApplication> applicationPage = applicationRepository.findAllByJobId(jobId, pageable);
+        return applicationHydrator.hydrate(applicationPage.getContent(), job)
+                .map(content -> ApiResponse.success("Applications fetched",
+                        new PageImpl<>(content, pageable, applicationPage.getTotalElements())));
+    }
+
+    public Mono<ApiResponse<CursorPage<JobAppResponse>>> getApplicationsByJobCursor(
+            int jobId, int userId, String cursor, int size, String sortBy, String direction) {
+
+        // Verify the job belongs to the user
+        JobDTO job = snapshotService.getJob(jobId);
+        if (job.getPostedBy() != userId) {
+            throw new RuntimeException("Unauthorized to view applications");
+        }
+        if (!sortBy.equals("appliedAt")) {
+            throw new RuntimeException("Cursor pagination only supports sortBy=appliedAt");
+        }
+
+        boolean newestFirst = direction.equalsIgnoreCase("desc");
+        Sort.Direction sortDirection = newestFirst ? Sort.Direction.DESC : Sort.Direction.ASC;
+        // One extra row tells whether another page exists
+        Pageable limit = PageRequest.of(0, size + 1, Sort.by(sortDirection, "appliedAt", "id"));
+        List<JobApplication> rows;
+        if (cursor.isEmpty()) {
+            rows = applicationRepository.findPageByJobId(jobId, limit);
+        } else {
+            String[] position = CursorCodec.decode(cursor, 2);
+            LocalDateTime appliedAt = LocalDateTime.parse(position[0]);
+            int id = Integer.parseInt(position[1]);
+            rows = newestFirst
+                    ? applicationRepository.findPageByJobIdBefore(jobId, appliedAt, id, limit)
+                    : applicationRepository.findPageByJobIdAfter(jobId, appliedAt, id, limit);
+        }
 
-        return ApiResponse.success("Applications fetched", applications);
+        boolean hasNext = rows.size() > size;
+        List<JobApplication> pageRows = hasNext ? rows.subList(0, size) : rows;
+        JobApplication last = hasNext ? pageRows.get(size - 1) : null;
+        String nextCursor = last != null ? CursorCodec.encode(last.getAppliedAt(), last.getId()) : null;
+
+        return applicationHydrator.hydrate(pageRows, job)
+                .map(content -> ApiResponse.success("Applications fetched",
+                        new CursorPage<>(content, nextCursor, hasNext)));
     }
 
     public ApiResponse<Void> updateStatus(int applicationId, String status, int userId) {
+        requireKnownStatus(status);
+        // Ownership is checked before the row is locked, so a job lookup never runs under the lock
         JobApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         // Verify the user owns the job
-        ApiResponse<JobDTO> jobResponse = jobServiceClient.getJobById(application.getJobId());
-        if (!jobResponse.isStatus()) {
-            throw new ResourceNotFoundException("Job not found");
-        }
-
-        JobDTO job = jobResponse.getData();
+        JobDTO job = snapshotService.getJob(application.getJobId());
         if (job.getPostedBy() != userId) {
             throw new RuntimeException("Unauthorized to update application");
         }
 
-        application.setStatus(status);
-        applicationRepository.save(application);
+        transactionTemplate.executeWithoutResult(tx -> {
+            // Locked so the transition is counted from the status it actually replaces
+            JobApplication locked = applicationRepository.findForUpdateById(applicationId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+            statsService.recordTransition(locked.getJobId(), locked.getStatus(), status);
+            locked.setStatus(status);
+            applicationRepository.save(locked);
+            outbox.append(DomainEvent.of(EventTypes.APPLICATION_STATUS_CHANGED, applicationId));
+        });
 
         return ApiResponse.success("Status updated", null);
     }
 
-    private JobAppResponse mapToResponse(JobApplication application) {
-        ApiResponse<UserDTO> userResponse = userServiceClient.getUserById(application.getUserId());
-        ApiResponse<JobDTO> jobResponse = jobServiceClient.getJobById(application.getJobId());
+    /**
+     * Sets {@code status} on many applications at once: ownership is checked once per distinct
+     * job before any row is locked, then one transaction locks the permitted rows and a single
+     * UPDATE changes them.
+     */
+    public ApiResponse<List<BulkStatusResult>> updateStatuses(BulkStatusRequest request, int userId) {
+        List<Integer> ids = request.getApplicationIds();
+        if (ids == null || ids.isEmpty()) {
+            throw new RuntimeException("No applications given");
+        }
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new RuntimeException("At most " + MAX_BULK_SIZE + " applications per request");
+        }
+        requireKnownStatus(request.getStatus());
+
+        // Unlocked read: only the job ids are used, and they never change
+        Map<Integer, Integer> jobIdsByApplication = applicationRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(JobApplication::getId, JobApplication::getJobId));
+        Map<Integer, Boolean> ownedJobs = new HashMap<>();
+        for (int jobId : Set.copyOf(jobIdsByApplication.values())) {
+            ownedJobs.put(jobId, ownsJob(jobId, userId));
+        }
 
-        JobAppResponse response = new JobAppResponse();
-        response.setApplicationId(application.getId());
-        response.setUser(userResponse.getData());
-        response.setJob(jobResponse.getData());
-        response.setStatus(application.getStatus());
-        response.setAppliedAt(application.getAppliedAt());
+        Set<Integer> permitted = new LinkedHashSet<>();
+        List<BulkStatusResult> results = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            Integer jobId = jobIdsByApplication.get(id);
+            if (jobId == null) {
+                results.add(new BulkStatusResult(id, "NOT_FOUND"));
+            } else if (!ownedJobs.get(jobId)) {
+                results.add(new BulkStatusResult(id, "UNAUTHORIZED"));
+            } else {
+                permitted.add(id);
+                results.add(new BulkStatusResult(id, "UPDATED"));
+            }
+        }
 
-        return response;
+        if (!permitted.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Locked so each transition is counted from the status it actually replaces
+                List<JobApplication> locked = applicationRepository.findAllForUpdateByIdInOrderByIdAsc(permitted);
+                statsService.recordTransitions(locked, request.getStatus());
+                applicationRepository.updateStatusByIdIn(permitted, request.getStatus());
+                outbox.appendAll(permitted.stream()
+                        .map(id -> DomainEvent.of(EventTypes.APPLICATION_STATUS_CHANGED, id))
+                        .toList());
+            });
+        }
+
+        return ApiResponse.success("Statuses updated", results);
+    }
+
+    private static void requireKnownStatus(String status) {
+        if (status == null || !STATUSES.contains(status)) {
+            throw new RuntimeException("Unknown status: " + status);
+        }
+    }
+
+    // A job that no longer exists is treated as not owned
+    private boolean ownsJob(int jobId, int userId) {
+        try {
+            return snapshotService.getJob(jobId).getPostedBy() == userId;
+        } catch (ResourceNotFoundException e) {
+            return false;
+        }
     }
 }
@@ -0,0 +1,156 @@
+package com.jobportal.application.service;
+
+import com.jobportal.application.cache.LookupCache;
+import com.jobportal.application.feign.JobServiceClient;
+import com.jobportal.application.feign.UserServiceClient;
+import com.jobportal.application.model.JobSnapshot;
+import com.jobportal.application.model.UserSnapshot;
+import com.jobportal.application.repository.JobApplicationRepository;
+import com.jobportal.application.repository.JobSnapshotRepository;
+import com.jobportal.application.repository.UserSnapshotRepository;
+import com.jobportal.common.dto.JobDTO;
+import com.jobportal.common.dto.UserDTO;
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventBus;
+import com.jobportal.common.event.EventTypes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Local read model of the job and user fields that application responses render, so that
+ * listing applications needs no calls to job-service or user-service. Snapshots are written
+ * when a user applies and can be rebuilt for existing applications with {@link #rebuild()}.
+ * Job snapshots are dropped when the job is deleted; user snapshots are write-once, since
+ * users cannot be edited in user-service.
+ */
+@Slf4j
+@Service
+public class SnapshotService {
+    private static final int REBUILD_BATCH_SIZE = 100;
+
+    private final JobSnapshotRepository jobSnapshotRepository;
+    private final UserSnapshotRepository userSnapshotRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final JobServiceClient jobServiceClient;
+    private final UserServiceClient userServiceClient;
+    private final LookupCache lookupCache;
+    private final boolean backfillOnStartup;
+
+    public SnapshotService(JobSnapshotRepository jobSnapshotRepository,
+                           UserSnapshotRepository userSnapshotRepository,
+                           JobApplicationRepository applicationRepository,
+                           JobServiceClient jobServiceClient,
+                           UserServiceClient userServiceClient,
+                           LookupCache lookupCache,
+                           EventBus eventBus,
+                           @Value("${snapshots.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.jobSnapshotRepository = jobSnapshotRepository;
+        this.userSnapshotRepository = userSnapshotRepository;
+        this.applicationRepository = applicationRepository;
+        this.jobServiceClient = jobServiceClient;
+        this.userServiceClient = userServiceClient;
+        this.lookupCache = lookupCache;
+        this.backfillOnStartup = backfillOnStartup;
+
+        eventBus.subscribe(EventTypes.JOB_DELETED, this::onJobDeleted);
+    }
+
+    /** Job from the read model, falling back to job-service (and recording it) when missing. */
+    public JobDTO getJob(int jobId) {
+        return jobSnapshotRepository.findById(jobId)
+                .map(JobSnapshot::toDto)
+                .orElseGet(() -> saveJob(lookupCache.getJob(jobId)));
+    }
+
+    public Map<Integer, JobDTO> findJobs(Collection<Integer> jobIds) {
+        return jobSnapshotRepository.findAllById(jobIds)
+                .stream()
+                .collect(Collectors.toMap(JobSnapshot::getJobId, JobSnapshot::toDto));
+    }
+
+    public Map<Integer, UserDTO> findUsers(Collection<Integer> userIds) {
+        return userSnapshotRepository.findAllById(userIds)
+                .stream()
+                .collect(Collectors.toMap(UserSnapshot::getUserId, UserSnapshot::toDto));
+    }
+
+    public JobDTO saveJob(JobDTO job) {
+        jobSnapshotRepository.save(toSnapshot(job));
+        return job;
+    }
+
+    public UserDTO saveUser(UserDTO user) {
+        userSnapshotRepository.save(toSnapshot(user));
+        return user;
+    }
+
+    public void saveJobs(Collection<JobDTO> jobs) {
+        jobSnapshotRepository.saveAll(jobs.stream().map(SnapshotService::toSnapshot).toList());
+    }
+
+    public void saveUsers(Collection<UserDTO> users) {
+        userSnapshotRepository.saveAll(users.stream().map(SnapshotService::toSnapshot).toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Re-reads every job and user referenced by an application from the owning services,
+     * in bulk batches, and overwrites the snapshots.
+     *
+     * @return number of job and user snapshots written
+     */
+    public Map<String, Integer> rebuild() {
+        int jobs = 0;
+        for (List<Integer> batch : batches(applicationRepository.findDistinctJobIds())) {
+            List<JobDTO> found = jobServiceClient.getJobsByIds(batch).getData();
+            saveJobs(found);
+            jobs += found.size();
+        }
+        int users = 0;
+        for (List<Integer> batch : batches(applicationRepository.findDistinctUserIds())) {
+            List<UserDTO> found = userServiceClient.getUsersByIds(batch).getData();
+            saveUsers(found);
+            users += found.size();
+        }
+        log.info("Rebuilt {} job and {} user snapshots", jobs, users);
+        return Map.of("jobs", jobs, "users", users);
+    }
+
+    private void onJobDeleted(DomainEvent event) {
+        jobSnapshotRepository.deleteById(event.getAggregateId());
+    }
+
+    private static List<List<Integer>> batches(List<Integer> ids) {
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += REBUILD_BATCH_SIZE) {
+            batches.add(ids.subList(from, Math.min(from + REBUILD_BATCH_SIZE, ids.size())));
+        }
+        return batches;
+    }
+
+    private static JobSnapshot toSnapshot(JobDTO job) {
+        return new JobSnapshot(job.getId(), job.getTitle(), job.getDescription(), job.getLocation(),
+                job.getCompanyName(), job.getSalary(), job.getJobType(), job.getPostedBy(), LocalDateTime.now());
+    }
+
+    private static UserSnapshot toSnapshot(UserDTO user) {
+        return new UserSnapshot(user.getUserId(), user.getName(), user.getEmail(), user.getRole(),
+                LocalDateTime.now());
+    }
+}
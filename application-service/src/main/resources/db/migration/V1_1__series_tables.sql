@@ -0,0 +1,45 @@
+-- Tables added since the ddl-auto schema in V1. Databases baselined at V1 get them here; "if not exists"
+-- keeps databases that ddl-auto already extended with them working
+
+create table if not exists job_snapshot (
+    job_id integer not null,
+    title varchar(255),
+    description varchar(255),
+    location varchar(255),
+    company_name varchar(255),
+    salary varchar(255),
+    job_type varchar(255),
+    posted_by integer not null,
+    synced_at datetime(6),
+    primary key (job_id)
+);
+
+create table if not exists user_snapshot (
+    user_id integer not null,
+    name varchar(255),
+    email varchar(255),
+    role varchar(255),
+    synced_at datetime(6),
+    primary key (user_id)
+);
+
+create table if not exists job_status_count (
+    job_id integer not null,
+    status varchar(255) not null,
+    application_count bigint not null,
+    primary key (job_id, status)
+);
+
+create table if not exists outbox_event (
+    id bigint not null,
+    type varchar(255) not null,
+    aggregate_id integer not null,
+    occurred_at datetime(6) not null,
+    primary key (id)
+);
+
+create table if not exists outbox_event_seq (
+    next_val bigint
+);
+
+insert into outbox_event_seq (next_val) select 1 from dual where not exists (select * from outbox_event_seq);
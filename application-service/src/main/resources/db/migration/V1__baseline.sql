@@ -0,0 +1,9 @@
+-- Schema as previously generated by ddl-auto=update; existing databases are baselined at this version
+create table job_application (
+    id integer not null auto_increment,
+    job_id integer not null,
+    user_id integer not null,
+    status varchar(255) not null,
+    applied_at datetime(6),
+    primary key (id)
+);
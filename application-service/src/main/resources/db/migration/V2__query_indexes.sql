@@ -0,0 +1,20 @@
+-- Databases baselined from ddl-auto may hold duplicate applications: keep the first per user and job
+delete from job_application
+where id not in (select id from (select min(id) as id from job_application group by job_id, user_id) kept);
+
+-- Recount the per-(job, status) counters so removed duplicates are no longer counted
+delete from job_status_count;
+insert into job_status_count (job_id, status, application_count)
+select job_id, status, count(*) from job_application group by job_id, status;
+
+-- One application per user and job; also serves existsByJobIdAndUserId
+alter table job_application add constraint uk_job_application_job_user unique (job_id, user_id);
+
+-- findAllByJobId with the default sort (appliedAt desc) and keyset pages on (appliedAt, id)
+create index idx_job_application_job_applied_at on job_application (job_id, applied_at desc, id desc);
+
+-- findAllByUserId
+create index idx_job_application_user on job_application (user_id);
+
+-- Employer stats join from job_snapshot to job_status_count
+create index idx_job_snapshot_posted_by on job_snapshot (posted_by);
@@ -0,0 +1,110 @@
+package com.jobportal.application.cache;
+
+import com.jobportal.application.model.JobSnapshot;
+import com.jobportal.application.repository.JobSnapshotRepository;
+import com.jobportal.common.exception.ResourceNotFoundException;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Job lookups through Feign, the circuit breaker and the snapshot fallback against a stub job-service
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "eureka.client.enabled=false",
+        "events.secret=test-events-secret",
+        "spring.datasource.url=jdbc:h2:mem:lookup_cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+class LookupCacheTest {
+    private static final AtomicInteger backendStatus = new AtomicInteger();
+    private static final HttpServer backend = startBackend();
+
+    @Autowired
+    private LookupCache lookupCache;
+
+    @Autowired
+    private JobSnapshotRepository jobSnapshotRepository;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @DynamicPropertySource
+    static void jobService(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.job-service[0].uri",
+                () -> "http://localhost:" + backend.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop(0);
+    }
+
+    @BeforeEach
+    void resetBreaker() {
+        circuitBreakerRegistry.circuitBreaker("job-service").reset();
+    }
+
+    @Test
+    void notFoundIsPassedOnWithoutCountingAsFailure() {
+        backendStatus.set(404);
+
+        assertThatThrownBy(() -> lookupCache.confirmJob(1)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> lookupCache.getJob(2)).isInstanceOf(ResourceNotFoundException.class);
+
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker("job-service").getMetrics();
+        assertThat(metrics.getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void confirmJobNeverServesSnapshot() {
+        backendStatus.set(503);
+        JobSnapshot snapshot = new JobSnapshot();
+        snapshot.setJobId(3);
+        snapshot.setTitle("Deleted upstream");
+        snapshot.setPostedBy(7);
+        jobSnapshotRepository.save(snapshot);
+
+        assertThatThrownBy(() -> lookupCache.confirmJob(3))
+                .isNotInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Job service unavailable");
+        assertThat(lookupCache.getJob(3).getTitle()).isEqualTo("Deleted upstream");
+        assertThat(circuitBreakerRegistry.circuitBreaker("job-service").getMetrics().getNumberOfFailedCalls())
+                .isEqualTo(2);
+    }
+
+    private static HttpServer startBackend() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/jobs", exchange -> {
+                byte[] body = ("{\"status\":" + backendStatus.get() + "}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(backendStatus.get(), body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobportal.application.repository;
+
+import com.jobportal.application.model.JobApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Walks every keyset page of one job in both directions; ties on appliedAt must neither repeat nor skip rows
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:application_keyset;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobApplicationRepositoryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final int JOB_ID = 7;
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private JobApplicationRepository repository;
+
+    private List<JobApplication> applications;
+
+    @BeforeEach
+    void insertApplications() {
+        repository.deleteAll();
+        // Three applications share a timestamp so a page boundary falls inside the tie
+        int[] minutes = {1, 2, 2, 2, 3, 4, 5};
+        applications = new ArrayList<>();
+        for (int user = 0; user < minutes.length; user++) {
+            applications.add(repository.save(
+                    new JobApplication(0, JOB_ID, user, "APPLIED", NOW.plusMinutes(minutes[user]))));
+        }
+        // Another job's applications interleave in time but must never appear
+        repository.save(new JobApplication(0, JOB_ID + 1, 1, "APPLIED", NOW.plusMinutes(2)));
+        repository.save(new JobApplication(0, JOB_ID + 1, 2, "APPLIED", NOW.plusMinutes(4)));
+    }
+
+    @Test
+    void newestFirstPagesCoverEveryApplicationOnce() {
+        Pageable limit = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "appliedAt", "id"));
+        List<Integer> seen = new ArrayList<>();
+        List<JobApplication> page = repository.findPageByJobId(JOB_ID, limit);
+        while (!page.isEmpty()) {
+            page.forEach(application -> seen.add(application.getId()));
+            JobApplication last = page.get(page.size() - 1);
+            page = repository.findPageByJobIdBefore(JOB_ID, last.getAppliedAt(), last.getId(), limit);
+        }
+
+        assertThat(seen).containsExactlyElementsOf(ids(Comparator.comparing(JobApplication::getAppliedAt)
+                .thenComparingInt(JobApplication::getId).reversed()));
+    }
+
+    @Test
+    void oldestFirstPagesCoverEveryApplicationOnce() {
+        Pageable limit = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "appliedAt", "id"));
+        List<Integer> seen = new ArrayList<>();
+        List<JobApplication> page = repository.findPageByJobId(JOB_ID, limit);
+        while (!page.isEmpty()) {
+            page.forEach(application -> seen.add(application.getId()));
+            JobApplication last = page.get(page.size() - 1);
+            page = repository.findPageByJobIdAfter(JOB_ID, last.getAppliedAt(), last.getId(), limit);
+        }
+
+        assertThat(seen).containsExactlyElementsOf(ids(Comparator.comparing(JobApplication::getAppliedAt)
+                .thenComparingInt(JobApplication::getId)));
+    }
+
+    private List<Integer> ids(Comparator<JobApplication> order) {
+        return applications.stream().sorted(order).map(JobApplication::getId).toList();
+    }
+}
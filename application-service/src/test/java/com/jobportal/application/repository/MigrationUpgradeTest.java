@@ -0,0 +1,58 @@
+package com.jobportal.application.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Upgrades a database created by ddl-auto before the migrations existed: baselined at V1, then migrated
+class MigrationUpgradeTest {
+
+    @Test
+    void preMigrationDatabaseIsBaselinedAndMigrated() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:application_upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        execute(dataSource,
+                "create table job_application (id integer not null auto_increment, job_id integer not null, " +
+                        "user_id integer not null, status varchar(255) not null, applied_at datetime(6), primary key (id))",
+                "insert into job_application (id, job_id, user_id, status, applied_at) values " +
+                        "(1, 10, 100, 'APPLIED', now()), (2, 10, 100, 'REJECTED', now()), " +
+                        "(3, 10, 101, 'APPLIED', now()), (4, 11, 100, 'APPLIED', now())");
+
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).load().migrate();
+
+        assertThat(query(dataSource, "select group_concat(id order by id) from job_application"))
+                .isEqualTo("1,3,4");
+        assertThat(query(dataSource, "select group_concat(job_id || ':' || status || '=' || application_count " +
+                "order by job_id, status) from job_status_count"))
+                .isEqualTo("10:APPLIED=2,11:APPLIED=1");
+        assertThat(query(dataSource, "select count(*) from job_snapshot")).isEqualTo("0");
+        assertThat(query(dataSource, "select count(*) from user_snapshot")).isEqualTo("0");
+        assertThat(query(dataSource, "select count(next_attempt_at) from outbox_event")).isEqualTo("0");
+        assertThat(query(dataSource, "select group_concat(next_val) from outbox_event_seq")).isEqualTo("1");
+    }
+
+    private static void execute(JdbcDataSource dataSource, String... statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static String query(JdbcDataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
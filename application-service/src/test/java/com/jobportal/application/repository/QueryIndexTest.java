@@ -0,0 +1,102 @@
+package com.jobportal.application.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the migrations on H2 in MySQL mode and checks every repository query shape is served by an index
+class QueryIndexTest {
+    private static JdbcDataSource dataSource;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:application_db;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        // Enough rows for the cost-based optimizer to prefer the selective index over a scan
+        execute(
+                "insert into job_application (job_id, user_id, status, applied_at) " +
+                        "select mod(x, 200), x, 'APPLIED', dateadd('MINUTE', x, timestamp '2024-01-01 00:00:00') " +
+                        "from system_range(1, 5000) r(x)",
+                "insert into job_snapshot (job_id, title, posted_by) select x, 'Job ' || x, mod(x, 50) from system_range(1, 200) r(x)",
+                "insert into job_status_count (job_id, status, application_count) select x, 'APPLIED', 25 from system_range(1, 200) r(x)",
+                "analyze");
+    }
+
+    @Test
+    void findAllByJobIdUsesJobIndex() throws SQLException {
+        String plan = explain("select * from job_application where job_id = 1 order by applied_at desc, id desc limit 5");
+        assertThat(plan).contains(": job_id = 1").doesNotContain("tableScan");
+    }
+
+    @Test
+    void keysetPageByJobIdUsesJobIndex() throws SQLException {
+        // H2 only reports sort avoidance from the leading index column, so this checks the seek; MySQL also skips the sort
+        String plan = explain("select * from job_application use index (idx_job_application_job_applied_at) " +
+                "where job_id = 1 and (applied_at < '2024-01-01' or (applied_at = '2024-01-01' and id < 10)) " +
+                "order by applied_at desc, id desc limit 21");
+        assertThat(plan).contains("idx_job_application_job_applied_at: job_id = 1");
+    }
+
+    @Test
+    void findAllByUserIdUsesUserIndex() throws SQLException {
+        assertThat(explain("select * from job_application where user_id = 1"))
+                .contains("idx_job_application_user");
+    }
+
+    @Test
+    void existsByJobIdAndUserIdUsesUniqueConstraint() throws SQLException {
+        assertThat(explain("select id from job_application where job_id = 1 and user_id = 2 limit 1"))
+                .contains("uk_job_application_job_user");
+    }
+
+    @Test
+    void statsByPostedByUsesSnapshotIndexAndCountKey() throws SQLException {
+        String plan = explain("select c.job_id, s.title, c.status, c.application_count from job_status_count c " +
+                "join job_snapshot s on s.job_id = c.job_id where s.posted_by = 1");
+        assertThat(plan).contains("idx_job_snapshot_posted_by").doesNotContain("tableScan");
+    }
+
+    @Test
+    void duplicateApplicationIsRejected() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            String insert = "insert into job_application (job_id, user_id, status) values (7, 9999, 'APPLIED')";
+            statement.executeUpdate(insert);
+            try {
+                statement.executeUpdate(insert);
+                throw new AssertionError("Duplicate (job_id, user_id) was accepted");
+            } catch (SQLException e) {
+                assertThat(e.getSQLState()).isEqualTo("23505");
+            } finally {
+                statement.executeUpdate("delete from job_application where user_id = 9999");
+            }
+        }
+    }
+
+    private static void execute(String... statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("explain " + sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.jobportal.application.service;
+
+import com.jobportal.application.cache.LookupCache;
+import com.jobportal.application.dto.BulkStatusRequest;
+import com.jobportal.application.dto.BulkStatusResult;
+import com.jobportal.application.model.JobApplication;
+import com.jobportal.application.repository.JobApplicationRepository;
+import com.jobportal.common.dto.JobDTO;
+import com.jobportal.common.exception.ResourceNotFoundException;
+import com.jobportal.common.outbox.Outbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JobApplicationServiceTest {
+    private static final int EMPLOYER = 5;
+
+    private final JobApplicationRepository applicationRepository = mock(JobApplicationRepository.class);
+    private final SnapshotService snapshotService = mock(SnapshotService.class);
+    private final ApplicationStatsService statsService = mock(ApplicationStatsService.class);
+    private final Outbox outbox = mock(Outbox.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private JobApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new JobApplicationService(applicationRepository, mock(LookupCache.class), snapshotService,
+                mock(ApplicationHydrator.class), statsService, outbox, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void bulkUpdateReportsEachOutcomeAndLocksOnlyPermittedRows() {
+        JobApplication own = application(1, 10, "APPLIED");
+        JobApplication foreign = application(2, 20, "APPLIED");
+        JobApplication deletedJob = application(4, 30, "APPLIED");
+        when(applicationRepository.findAllById(List.of(1, 2, 3, 4))).thenReturn(List.of(own, foreign, deletedJob));
+        when(snapshotService.getJob(10)).thenReturn(job(10, EMPLOYER));
+        when(snapshotService.getJob(20)).thenReturn(job(20, EMPLOYER + 1));
+        when(snapshotService.getJob(30)).thenThrow(new ResourceNotFoundException("Job not found"));
+        when(applicationRepository.findAllForUpdateByIdInOrderByIdAsc(Set.of(1))).thenReturn(List.of(own));
+
+        List<BulkStatusResult> results = service.updateStatuses(
+                new BulkStatusRequest(List.of(1, 2, 3, 4), "SHORTLISTED"), EMPLOYER).getData();
+
+        assertThat(results).extracting(BulkStatusResult::getOutcome)
+                .containsExactly("UPDATED", "UNAUTHORIZED", "NOT_FOUND", "UNAUTHORIZED");
+        verify(statsService).recordTransitions(List.of(own), "SHORTLISTED");
+        verify(applicationRepository).updateStatusByIdIn(Set.of(1), "SHORTLISTED");
+
+        // Ownership is resolved before the transaction that takes the row locks begins
+        InOrder order = inOrder(snapshotService, transactionManager, applicationRepository);
+        order.verify(snapshotService).getJob(30);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(applicationRepository).findAllForUpdateByIdInOrderByIdAsc(Set.of(1));
+    }
+
+    @Test
+    void bulkUpdateWithNothingPermittedOpensNoTransaction() {
+        when(applicationRepository.findAllById(List.of(2))).thenReturn(List.of(application(2, 20, "APPLIED")));
+        when(snapshotService.getJob(20)).thenReturn(job(20, EMPLOYER + 1));
+
+        service.updateStatuses(new BulkStatusRequest(List.of(2), "REJECTED"), EMPLOYER);
+
+        verifyNoInteractions(transactionManager, statsService, outbox);
+        verify(applicationRepository, never()).updateStatusByIdIn(any(), any());
+    }
+
+    @Test
+    void bulkUpdateRejectsMissingOrUnknownStatus() {
+        assertThatThrownBy(() -> service.updateStatuses(new BulkStatusRequest(List.of(1), null), EMPLOYER))
+                .hasMessage("Unknown status: null");
+        assertThatThrownBy(() -> service.updateStatuses(new BulkStatusRequest(List.of(1), "HIRED"), EMPLOYER))
+                .hasMessage("Unknown status: HIRED");
+        verifyNoInteractions(applicationRepository, snapshotService);
+    }
+
+    @Test
+    void singleUpdateChecksOwnershipBeforeLockingAndCountsFromLockedStatus() {
+        when(applicationRepository.findById(1)).thenReturn(Optional.of(application(1, 10, "APPLIED")));
+        when(snapshotService.getJob(10)).thenReturn(job(10, EMPLOYER));
+        // A concurrent change landed between the unlocked read and the lock
+        JobApplication locked = application(1, 10, "SHORTLISTED");
+        when(applicationRepository.findForUpdateById(1)).thenReturn(Optional.of(locked));
+
+        service.updateStatus(1, "REJECTED", EMPLOYER);
+
+        InOrder order = inOrder(snapshotService, transactionManager, applicationRepository);
+        order.verify(snapshotService).getJob(10);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(applicationRepository).findForUpdateById(1);
+        verify(statsService).recordTransition(10, "SHORTLISTED", "REJECTED");
+        assertThat(locked.getStatus()).isEqualTo("REJECTED");
+    }
+
+    @Test
+    void singleUpdateByNonOwnerTakesNoLock() {
+        when(applicationRepository.findById(1)).thenReturn(Optional.of(application(1, 10, "APPLIED")));
+        when(snapshotService.getJob(10)).thenReturn(job(10, EMPLOYER + 1));
+
+        assertThatThrownBy(() -> service.updateStatus(1, "REJECTED", EMPLOYER))
+                .hasMessage("Unauthorized to update application");
+        verify(applicationRepository, never()).findForUpdateById(1);
+        verifyNoInteractions(transactionManager);
+    }
+
+    private static JobApplication application(int id, int jobId, String status) {
+        return new JobApplication(id, jobId, 100 + id, status, LocalDateTime.now());
+    }
+
+    private static JobDTO job(int id, int postedBy) {
+        return new JobDTO(id, "Job " + id, "d", "l", "c", "s", "t", postedBy);
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobportal.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line (e.g. a benchmark
+ * regex, {@code -f 1 -wi 3}) and always attaches the GC profiler so every run reports
+ * allocation rates ({@code gc.alloc.rate.norm} = bytes allocated per operation).
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
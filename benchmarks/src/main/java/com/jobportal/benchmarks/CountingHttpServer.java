@@ -0,0 +1,117 @@
+package com.jobportal.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Minimal HTTP/1.1 keep-alive server returning a fixed JSON body, counting accepted
+ * connections and requests so a benchmark can report how often its client reconnects.
+ */
+final class CountingHttpServer implements AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService workers = Executors.newCachedThreadPool();
+    private final byte[] body;
+    private final byte[] gzippedBody;
+    private final boolean gzip;
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    CountingHttpServer(byte[] body, boolean gzip) throws IOException {
+        this.body = body;
+        this.gzippedBody = gzip(body);
+        this.gzip = gzip;
+        this.serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+        workers.execute(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    long connections() {
+        return connections.get();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                workers.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 16 * 1024);
+            String requestLine;
+            while ((requestLine = in.readLine()) != null && !requestLine.isEmpty()) {
+                boolean acceptsGzip = false;
+                boolean close = false;
+                String header;
+                while ((header = in.readLine()) != null && !header.isEmpty()) {
+                    String lower = header.toLowerCase(Locale.ROOT);
+                    acceptsGzip |= lower.startsWith("accept-encoding:") && lower.contains("gzip");
+                    close |= lower.startsWith("connection:") && lower.contains("close");
+                }
+                requests.incrementAndGet();
+
+                boolean compressed = gzip && acceptsGzip;
+                byte[] payload = compressed ? gzippedBody : body;
+                String head = "HTTP/1.1 200 OK\r\n"
+                        + "Content-Type: application/json\r\n"
+                        + (compressed ? "Content-Encoding: gzip\r\n" : "")
+                        + "Content-Length: " + payload.length + "\r\n"
+                        + (close ? "Connection: close\r\n" : "")
+                        + "\r\n";
+                out.write(head.getBytes(StandardCharsets.ISO_8859_1));
+                out.write(payload);
+                out.flush();
+                if (close) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // client went away
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,99 @@
+package com.jobportal.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.job.dto.JobResponse;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call latency of a Feign client fetching a 50-job {@code ApiResponse} over loopback with
+ * 16 concurrent callers: Feign's default {@code HttpURLConnection} client versus the pooled
+ * Apache HttpClient 5 client configured in common-lib, each with and without gzip. Connection
+ * setup rate is printed at the end of each trial as connections opened per 1000 calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class FeignClientBenchmark {
+
+    interface JobsApi {
+        @RequestLine("GET /api/jobs?ids=1,2,3")
+        String getJobsByIds();
+    }
+
+    @Param({"default", "hc5"})
+    private String client;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private CountingHttpServer server;
+    private CloseableHttpClient httpClient;
+    private JobsApi api;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        List<JobResponse> jobs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            jobs.add(new JobResponse(i, "Senior Java Developer " + i,
+                    "Looking for an experienced Java developer with 5+ years of experience",
+                    "New York, NY", "Tech Solutions Inc", "$120,000 - $150,000", "FULL_TIME", 7));
+        }
+        byte[] body = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsBytes(ApiResponse.success("Jobs fetched successfully", jobs));
+        server = new CountingHttpServer(body, gzip);
+
+        Feign.Builder builder = Feign.builder();
+        if (client.equals("hc5")) {
+            // Same pool limits as feign-defaults.properties; HttpClient 5 negotiates gzip itself
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                            .setMaxConnTotal(200)
+                            .setMaxConnPerRoute(50)
+                            .build())
+                    .build();
+            builder.client(new ApacheHttp5Client(httpClient));
+        } else {
+            builder.client(new Client.Default(null, null));
+            if (gzip) {
+                builder.requestInterceptor(template -> template.header("Accept-Encoding", "gzip"));
+            }
+        }
+        api = builder.target(JobsApi.class, "http://127.0.0.1:" + server.port());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        System.out.printf("%n[%s, gzip=%s] %d connections for %d calls (%.1f per 1000 calls)%n",
+                client, gzip, server.connections(), server.requests(),
+                1000.0 * server.connections() / Math.max(1, server.requests()));
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.close();
+    }
+
+    @Benchmark
+    public String getJobsByIds() {
+        return api.getJobsByIds();
+    }
+}
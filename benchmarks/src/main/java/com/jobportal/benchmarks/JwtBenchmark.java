@@ -0,0 +1,75 @@
+package com.jobportal.benchmarks;
+
+import com.jobportal.common.util.JwtClaims;
+import com.jobportal.common.util.JwtUtil;
+import com.jobportal.common.util.JwtVerifier;
+import com.jobportal.user.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing (user-service JwtUtil) and validation: the old gateway path of four
+ * static JwtUtil parses versus one JwtVerifier parse, cold and cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+
+    private com.jobportal.user.config.JwtUtil tokenIssuer;
+    private User user;
+    private String token;
+    private JwtVerifier coldVerifier;
+    private JwtVerifier cachedVerifier;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        tokenIssuer = new com.jobportal.user.config.JwtUtil();
+        set(tokenIssuer, "SECRET_KEY", SECRET);
+        set(tokenIssuer, "EXPIRATION_TIME", 86_400_000L);
+        user = new User(42, "Jane Smith", "jane@example.com", "hash", "EMPLOYER", LocalDateTime.now());
+        token = tokenIssuer.generateToken(user);
+
+        // Size 0 evicts immediately, so every call pays the full parse and signature check
+        coldVerifier = new JwtVerifier(SECRET, 0);
+        cachedVerifier = new JwtVerifier(SECRET, 1_000);
+        cachedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenIssuer.generateToken(user);
+    }
+
+    @Benchmark
+    public void staticJwtUtilFourParses(Blackhole blackhole) {
+        blackhole.consume(JwtUtil.isTokenValid(token, SECRET));
+        blackhole.consume(JwtUtil.extractEmail(token, SECRET));
+        blackhole.consume(JwtUtil.extractUserId(token, SECRET));
+        blackhole.consume(JwtUtil.extractRole(token, SECRET));
+    }
+
+    @Benchmark
+    public JwtClaims verifierSingleParse() {
+        return coldVerifier.verify(token);
+    }
+
+    @Benchmark
+    public JwtClaims verifierCached() {
+        return cachedVerifier.verify(token);
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,90 @@
+package com.jobportal.benchmarks;
+
+import com.jobportal.job.dto.JobResponse;
+import com.jobportal.job.model.Job;
+import com.jobportal.job.service.JobService;
+import com.jobportal.user.dto.UserResponse;
+import com.jobportal.user.model.User;
+import com.jobportal.user.service.UserService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done by the services: JobService (all-args constructor)
+ * and UserService (Lombok setters), for a single row and for a typical page.
+ * The private mappers are reached through constant method handles, which the JIT inlines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+    private static final MethodHandle MAP_JOB = privateMapper(JobService.class, Job.class, JobResponse.class);
+    private static final MethodHandle MAP_USER = privateMapper(UserService.class, User.class, UserResponse.class);
+
+    @Param({"1", "50"})
+    private int rows;
+
+    private JobService jobService;
+    private UserService userService;
+    private List<Job> jobs;
+    private List<User> users;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        // Mapping touches no collaborators, so the services are built with null dependencies
+        jobService = withNullDependencies(JobService.class);
+        userService = withNullDependencies(UserService.class);
+        jobs = new ArrayList<>();
+        users = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            jobs.add(new Job(i, "Senior Java Developer " + i, "Looking for an experienced Java developer",
+                    "New York, NY", "Tech Solutions Inc", "$120,000 - $150,000", "FULL_TIME", 7,
+                    LocalDateTime.now()));
+            users.add(new User(i, "Jane Smith", "jane" + i + "@example.com", "hash", "JOBSEEKER",
+                    LocalDateTime.now()));
+        }
+    }
+
+    @Benchmark
+    public List<JobResponse> mapJobs() throws Throwable {
+        List<JobResponse> responses = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            responses.add((JobResponse) MAP_JOB.invokeExact(jobService, job));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<UserResponse> mapUsers() throws Throwable {
+        List<UserResponse> responses = new ArrayList<>(users.size());
+        for (User user : users) {
+            responses.add((UserResponse) MAP_USER.invokeExact(userService, user));
+        }
+        return responses;
+    }
+
+    private static <T> T withNullDependencies(Class<T> type) throws ReflectiveOperationException {
+        Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        return type.cast(constructor.newInstance(new Object[constructor.getParameterCount()]));
+    }
+
+    private static MethodHandle privateMapper(Class<?> service, Class<?> entity, Class<?> dto) {
+        try {
+            return MethodHandles.privateLookupIn(service, MethodHandles.lookup())
+                    .findVirtual(service, "mapToResponse", MethodType.methodType(dto, entity));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobportal.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.CursorPage;
+import com.jobportal.job.dto.JobResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the search responses: offset mode ({@code ApiResponse<Page<JobResponse>>},
+ * including Spring's pageable/sort metadata) versus cursor mode ({@code ApiResponse<CursorPage>}).
+ * The mapper is configured like Spring Boot's default one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"5", "50"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<JobResponse>> offsetPage;
+    private ApiResponse<CursorPage<JobResponse>> cursorPage;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<JobResponse> jobs = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            jobs.add(new JobResponse(i, "Senior Java Developer " + i,
+                    "Looking for an experienced Java developer with 5+ years of experience",
+                    "New York, NY", "Tech Solutions Inc", "$120,000 - $150,000", "FULL_TIME", 7));
+        }
+        PageRequest pageable = PageRequest.of(3, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        offsetPage = ApiResponse.success("Jobs fetched successfully", new PageImpl<>(jobs, pageable, 10_000));
+        cursorPage = ApiResponse.success("Jobs fetched successfully", new CursorPage<>(jobs, "MjAyNS0wMS0xNHwxMjM", true));
+    }
+
+    @Benchmark
+    public byte[] offsetPage() throws Exception {
+        return objectMapper.writeValueAsBytes(offsetPage);
+    }
+
+    @Benchmark
+    public byte[] cursorPage() throws Exception {
+        return objectMapper.writeValueAsBytes(cursorPage);
+    }
+}
@@ -0,0 +1,53 @@
+package com.jobportal.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which callers committed a read-write transaction in the last {@code window}, so
+ * their reads stay on the primary until the replicas have had time to catch up. Callers are
+ * identified by {@code currentKey} (the gateway's {@code X-User-Id} header in the services);
+ * work without a key, such as scheduled jobs, is never pinned.
+ */
+public class ReadYourWrites {
+    private final Cache<String, Boolean> recentWriters;
+    private final Supplier<String> currentKey;
+
+    public ReadYourWrites(Duration window, Supplier<String> currentKey) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+        this.currentKey = currentKey;
+    }
+
+    /**
+     * Called when a read-write transaction takes a primary connection; the caller is pinned
+     * once the transaction commits.
+     */
+    void trackWrite() {
+        String key = currentKey.get();
+        if (key == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(key);
+            }
+        });
+    }
+
+    public void recordWrite(String key) {
+        recentWriters.put(key, Boolean.TRUE);
+    }
+
+    boolean recentlyWrote() {
+        String key = currentKey.get();
+        return key != null && recentWriters.getIfPresent(key) != null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobportal.common.datasource;
+
+import com.jobportal.common.metrics.MetricNames;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Replaces the service's single pool with a primary pool built from {@code spring.datasource.*}
+ * and one read-only pool per {@code datasource.replica.urls} entry, routed by
+ * {@link ReplicaRoutingDataSource}. Enable with {@code datasource.replica.enabled=true}.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnClass({HikariDataSource.class, LazyConnectionDataSourceProxy.class, ServletRequestAttributes.class})
+@ConditionalOnProperty(name = "datasource.replica.enabled")
+@EnableConfigurationProperties(DataSourceProperties.class)
+@EnableScheduling
+public class ReplicaRoutingAutoConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceProperties properties,
+                                @Value("${spring.application.name:app}") String applicationName,
+                                @Value("${datasource.replica.urls}") List<String> urls,
+                                @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+                                @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+                                @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+                                @Value("${datasource.replica.connection-timeout-ms:2000}") long connectionTimeoutMs,
+                                @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        List<DataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            pool.setPoolName(applicationName + "-replica-" + pools.size());
+            pool.setMaximumPoolSize(maximumPoolSize);
+            pool.setConnectionTimeout(connectionTimeoutMs);
+            // Start without a reachable replica; the health check marks it available once it answers
+            pool.setInitializationFailTimeout(-1);
+            pool.setReadOnly(true);
+            pools.add(pool);
+        }
+        int checkTimeoutSeconds = (int) Math.max(1, Duration.ofMillis(connectionTimeoutMs).toSeconds());
+        return new ReplicaSet(pools, lagQuery, maxLagSeconds, checkTimeoutSeconds);
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${datasource.replica.sticky-window-ms:5000}") long windowMs,
+                                         @Value("${datasource.replica.sticky-header:X-User-Id}") String header) {
+        return new ReadYourWrites(Duration.ofMillis(windowMs), () -> currentRequestHeader(header));
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaSet replicaSet,
+                                                             ReadYourWrites readYourWrites) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaSet, readYourWrites);
+    }
+
+    // The DataSource JPA, JdbcTemplate and Flyway use; work outside a read-only transaction goes to the primary
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static String currentRequestHeader(String header) {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest().getHeader(header)
+                : null;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class MetricsConfiguration {
+
+        @Bean
+        public MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource routing, ReplicaSet replicas) {
+            return registry -> {
+                for (ReplicaRoutingDataSource.Route route : ReplicaRoutingDataSource.Route.values()) {
+                    FunctionCounter.builder(MetricNames.DATASOURCE_ROUTED, routing, r -> r.routedCount(route))
+                            .tag("route", route.name().toLowerCase(Locale.ROOT))
+                            .register(registry);
+                }
+                Gauge.builder(MetricNames.DATASOURCE_REPLICAS_AVAILABLE, replicas, ReplicaSet::availableCount)
+                        .register(registry);
+            };
+        }
+    }
+}
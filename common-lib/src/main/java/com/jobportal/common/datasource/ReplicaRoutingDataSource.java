@@ -0,0 +1,76 @@
+package com.jobportal.common.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to a replica from
+ * {@link ReplicaSet} and everything else to the primary. Reads fall back to the primary when
+ * no replica is available or the caller wrote recently (see {@link ReadYourWrites}).
+ * <p>
+ * The read-only flag is only set once the transaction has begun, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which defers
+ * picking a target until the first statement runs.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ReplicaSet replicas;
+    private final ReadYourWrites readYourWrites;
+    private final LongAdder[] routed = new LongAdder[Route.values().length];
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicas, ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWrites = readYourWrites;
+        for (int i = 0; i < routed.length; i++) {
+            routed[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    public long routedCount(Route route) {
+        return routed[route.ordinal()].sum();
+    }
+
+    private DataSource target() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.trackWrite();
+            return route(Route.PRIMARY, primary);
+        }
+        if (readYourWrites.recentlyWrote()) {
+            return route(Route.STICKY, primary);
+        }
+        DataSource replica = replicas.choose();
+        return replica != null ? route(Route.REPLICA, replica) : route(Route.FALLBACK, primary);
+    }
+
+    private DataSource route(Route route, DataSource target) {
+        routed[route.ordinal()].increment();
+        return target;
+    }
+
+    public enum Route {
+        /** Read-write work or no transaction. */
+        PRIMARY,
+        /** Read-only work served by a replica. */
+        REPLICA,
+        /** Read-only work kept on the primary after the caller's own write. */
+        STICKY,
+        /** Read-only work on the primary because no replica was available. */
+        FALLBACK
+    }
+}
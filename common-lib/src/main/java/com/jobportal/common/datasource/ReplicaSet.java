@@ -0,0 +1,147 @@
+package com.jobportal.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The read replicas behind {@link ReplicaRoutingDataSource}. Each replica is probed on a
+ * fixed delay; it takes reads only while the probe succeeds and its replication lag is
+ * known and at most {@code maxLagSeconds}. Replicas start out unavailable until the first
+ * probe passes.
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+    // Column read from MySQL's SHOW REPLICA STATUS; other lag queries return the lag as column 1
+    private static final String MYSQL_LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final int checkTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(List<DataSource> dataSources, String lagQuery, long maxLagSeconds, int checkTimeoutSeconds) {
+        for (int i = 0; i < dataSources.size(); i++) {
+            replicas.add(new Replica("replica-" + i, dataSources.get(i)));
+        }
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkTimeoutSeconds = checkTimeoutSeconds;
+    }
+
+    /**
+     * Next available replica in round-robin order, or {@code null} when every replica is
+     * down or lagging.
+     */
+    DataSource choose() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable(maxLagSeconds)) {
+                return replica.dataSource;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval-ms:2000}")
+    public void checkAll() {
+        replicas.forEach(this::check);
+    }
+
+    public int availableCount() {
+        return (int) replicas.stream().filter(replica -> replica.isAvailable(maxLagSeconds)).count();
+    }
+
+    public List<Status> snapshot() {
+        return replicas.stream()
+                .map(replica -> new Status(replica.name, replica.healthy, replica.lagSeconds,
+                        replica.isAvailable(maxLagSeconds)))
+                .toList();
+    }
+
+    private void check(Replica replica) {
+        boolean wasAvailable = replica.isAvailable(maxLagSeconds);
+        try (Connection connection = replica.dataSource.getConnection()) {
+            replica.healthy = connection.isValid(checkTimeoutSeconds);
+            replica.lagSeconds = replica.healthy ? readLagSeconds(connection) : null;
+        } catch (SQLException e) {
+            replica.healthy = false;
+            replica.lagSeconds = null;
+            log.debug("Replica {} probe failed: {}", replica.name, e.getMessage());
+        }
+        boolean available = replica.isAvailable(maxLagSeconds);
+        if (available != wasAvailable) {
+            log.info("Replica {} is now {} (healthy={}, lag={}s)", replica.name,
+                    available ? "available" : "unavailable", replica.healthy, replica.lagSeconds);
+        }
+    }
+
+    // null means the lag is unknown: replication stopped or the server is not a replica
+    private Long readLagSeconds(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return 0L;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(checkTimeoutSeconds);
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    return null;
+                }
+                String value = hasColumn(rs.getMetaData(), MYSQL_LAG_COLUMN)
+                        ? rs.getString(MYSQL_LAG_COLUMN)
+                        : rs.getString(1);
+                return value == null ? null : Long.valueOf(value.trim());
+            }
+        }
+    }
+
+    private static boolean hasColumn(ResultSetMetaData metaData, String column) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public record Status(String name, boolean healthy, Long lagSeconds, boolean available) {
+    }
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile Long lagSeconds;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isAvailable(long maxLagSeconds) {
+            Long lag = lagSeconds;
+            return healthy && lag != null && lag <= maxLagSeconds;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.jobportal.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. Pass {@code nextCursor} back as the
+ * {@code cursor} parameter to fetch the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.jobportal.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainEvent {
+    private String type;
+    private int aggregateId;
+    private LocalDateTime occurredAt;
+
+    public static DomainEvent of(String type, int aggregateId) {
+        return new DomainEvent(type, aggregateId, LocalDateTime.now());
+    }
+}
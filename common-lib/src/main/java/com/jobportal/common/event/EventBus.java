@@ -0,0 +1,15 @@
+package com.jobportal.common.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Minimal pub/sub contract between services. The in-memory implementation is used
+ * inside a single JVM; a message broker can be plugged in behind the same interface.
+ */
+public interface EventBus {
+    void publish(DomainEvent event);
+
+    void subscribe(String type, Consumer<DomainEvent> listener);
+
+    void subscribeAll(Consumer<DomainEvent> listener);
+}
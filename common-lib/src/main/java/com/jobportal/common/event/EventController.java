@@ -0,0 +1,39 @@
+package com.jobportal.common.event;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Service-to-service only: receives events forwarded by {@link HttpEventForwarder} and publishes
+ * them on the local {@link EventBus}. Never routed by the gateway; requests must carry the shared
+ * {@code events.secret}. Plain annotations, so it serves both servlet and reactive services.
+ */
+@RestController
+@RequestMapping("/internal/events")
+public class EventController {
+    private final EventBus eventBus;
+    private final String secret;
+
+    public EventController(EventBus eventBus, String secret) {
+        this.eventBus = eventBus;
+        this.secret = HttpEventForwarder.requireSecret(secret);
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> receive(
+            @RequestHeader(value = HttpEventForwarder.SECRET_HEADER, required = false) String presented,
+            @RequestBody List<DomainEvent> events) {
+        if (!HttpEventForwarder.secretMatches(secret, presented)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        events.forEach(eventBus::publish);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobportal.common.event;
+
+public final class EventTypes {
+    public static final String JOB_CREATED = "JobCreated";
+    public static final String JOB_DELETED = "JobDeleted";
+    public static final String USER_CREATED = "UserCreated";
+    public static final String APPLICATION_SUBMITTED = "ApplicationSubmitted";
+    public static final String APPLICATION_STATUS_CHANGED = "ApplicationStatusChanged";
+
+    private EventTypes() {
+    }
+}
@@ -0,0 +1,69 @@
+package com.jobportal.common.event;
+
+import com.jobportal.common.outbox.OutboxAutoConfiguration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Local {@link EventBus} for every service, plus the two ends of cross-service delivery:
+ * the {@link HttpEventForwarder} used by the outbox relay when {@code events.subscribers} is set,
+ * and the {@code /internal/events} receiver when {@code events.receiver.enabled=true}.
+ * Both require {@code events.secret}.
+ */
+@AutoConfiguration(before = OutboxAutoConfiguration.class)
+public class EventsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventBus eventBus() {
+        return new InMemoryEventBus();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({RestTemplate.class, DiscoveryClient.class})
+    @ConditionalOnProperty(name = "events.subscribers")
+    static class ForwarderConfiguration {
+
+        // Not load-balanced: the forwarder resolves and calls every instance of a subscriber itself
+        @Bean
+        public RestTemplate eventRestTemplate(RestTemplateBuilder builder,
+                                              @Value("${events.forward.timeout-ms:2000}") long timeoutMs,
+                                              @Value("${events.secret:}") String secret) {
+            return builder
+                    .defaultHeader(HttpEventForwarder.SECRET_HEADER, HttpEventForwarder.requireSecret(secret))
+                    .setConnectTimeout(Duration.ofMillis(timeoutMs))
+                    .setReadTimeout(Duration.ofMillis(timeoutMs))
+                    .build();
+        }
+
+        @Bean
+        public HttpEventForwarder eventForwarder(RestTemplate eventRestTemplate,
+                                                 DiscoveryClient discoveryClient,
+                                                 @Value("${events.subscribers:}") List<String> subscribers) {
+            return new HttpEventForwarder(eventRestTemplate, discoveryClient, subscribers);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication
+    @ConditionalOnProperty(name = "events.receiver.enabled")
+    static class ReceiverConfiguration {
+
+        @Bean
+        public EventController eventController(EventBus eventBus, @Value("${events.secret:}") String secret) {
+            return new EventController(eventBus, secret);
+        }
+    }
+}
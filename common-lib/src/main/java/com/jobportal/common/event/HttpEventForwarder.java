@@ -0,0 +1,73 @@
+package com.jobportal.common.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Forwards events to the {@code /internal/events} endpoint of every registered instance of
+ * each subscribing service, so per-instance caches are all invalidated. Expects a plain
+ * (not {@code @LoadBalanced}) RestTemplate with short timeouts that sends the shared
+ * {@code events.secret} in {@link #SECRET_HEADER}; receivers reject requests without it.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HttpEventForwarder {
+    public static final String SECRET_HEADER = "X-Events-Secret";
+
+    private final RestTemplate restTemplate;
+    private final DiscoveryClient discoveryClient;
+    private final List<String> subscribers;
+
+    public List<String> subscribers() {
+        return subscribers;
+    }
+
+    /**
+     * Posts {@code events} to every instance of {@code subscriber}. Returns {@code true} only if
+     * at least one instance is registered and all of them acknowledged; the caller retries the
+     * whole batch otherwise, so receivers must be idempotent.
+     */
+    public boolean forward(String subscriber, List<DomainEvent> events) {
+        List<ServiceInstance> instances = discoveryClient.getInstances(subscriber);
+        if (instances.isEmpty()) {
+            log.warn("No instances of {} registered; {} event(s) will be retried", subscriber, events.size());
+            return false;
+        }
+        boolean acknowledged = true;
+        for (ServiceInstance instance : instances) {
+            try {
+                restTemplate.postForLocation(instance.getUri().resolve("/internal/events"), events);
+            } catch (Exception e) {
+                acknowledged = false;
+                log.warn("Could not forward {} event(s) to {} at {}: {}",
+                        events.size(), subscriber, instance.getUri(), e.getMessage());
+            }
+        }
+        return acknowledged;
+    }
+
+    /**
+     * Returns {@code secret}, or fails startup with a clear message when {@code events.secret}
+     * is unset; an empty secret would otherwise let every caller through or none.
+     */
+    public static String requireSecret(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException(
+                    "events.secret is not set: export EVENTS_SECRET with the same value for every service");
+        }
+        return secret;
+    }
+
+    /** Checks a received {@link #SECRET_HEADER} against the configured secret in constant time. */
+    public static boolean secretMatches(String secret, String presented) {
+        return presented != null && MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), presented.getBytes(StandardCharsets.UTF_8));
+    }
+}
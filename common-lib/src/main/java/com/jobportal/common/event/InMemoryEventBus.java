@@ -0,0 +1,42 @@
+package com.jobportal.common.event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+public class InMemoryEventBus implements EventBus {
+    private final Map<String, List<Consumer<DomainEvent>>> listeners = new ConcurrentHashMap<>();
+    private final List<Consumer<DomainEvent>> globalListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(DomainEvent event) {
+        deliver(listeners.getOrDefault(event.getType(), List.of()), event);
+        deliver(globalListeners, event);
+    }
+
+    @Override
+    public void subscribe(String type, Consumer<DomainEvent> listener) {
+        listeners.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<DomainEvent> listener) {
+        globalListeners.add(listener);
+    }
+
+    // A failing listener must not stop the others or the publisher
+    private void deliver(List<Consumer<DomainEvent>> targets, DomainEvent event) {
+        for (Consumer<DomainEvent> listener : targets) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("Listener failed for {} {}: {}", event.getType(), event.getAggregateId(), e.getMessage());
+            }
+        }
+    }
+}
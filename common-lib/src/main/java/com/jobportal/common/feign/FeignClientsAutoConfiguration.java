@@ -0,0 +1,24 @@
+package com.jobportal.common.feign;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Shared setup for the services' Feign clients. With
+ * {@code spring.cloud.openfeign.circuitbreaker.enabled=true} every call goes through a
+ * circuit breaker, time limiter and bulkhead named after the target service (e.g.
+ * {@code job-service}), so all methods of a client share one breaker and are configured
+ * under {@code resilience4j.*.instances.<service>}.
+ */
+@AutoConfiguration(before = FeignAutoConfiguration.class)
+@ConditionalOnClass(CircuitBreakerNameResolver.class)
+public class FeignClientsAutoConfiguration {
+
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
+    }
+}
@@ -0,0 +1,32 @@
+package com.jobportal.common.feign;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Adds the shared Feign HTTP client settings from {@code feign-defaults.properties} to every
+ * service that uses OpenFeign. They have the lowest precedence, so any service can override a
+ * value in its own application.properties.
+ */
+public class FeignDefaultsEnvironmentPostProcessor implements EnvironmentPostProcessor {
+    private static final String DEFAULTS = "com/jobportal/common/feign/feign-defaults.properties";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!ClassUtils.isPresent("org.springframework.cloud.openfeign.FeignClient", getClass().getClassLoader())) {
+            return;
+        }
+        try {
+            environment.getPropertySources().addLast(new ResourcePropertySource("feignDefaults", new ClassPathResource(DEFAULTS)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
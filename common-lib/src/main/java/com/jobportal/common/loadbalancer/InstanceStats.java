@@ -0,0 +1,113 @@
+package com.jobportal.common.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live statistics for one service instance: requests in flight, an exponentially weighted
+ * moving average of response latency that decays with time rather than with request count,
+ * consecutive errors, and the ejection state derived from them.
+ */
+public class InstanceStats {
+    // Latency samples needed before a high EWMA can eject the instance
+    private static final int MIN_LATENCY_SAMPLES = 5;
+
+    private final String instanceId;
+    private final String uri;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double ewmaNanos;
+    private long lastSampleNanos;
+    private int samples;
+    private int consecutiveErrors;
+    private int ejections;
+    private long ejectedUntilNanos;
+    private long requests;
+    private long errors;
+
+    InstanceStats(String instanceId, String uri) {
+        this.instanceId = instanceId;
+        this.uri = uri;
+    }
+
+    void start() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * Folds in one finished request. A failed request counts as at least
+     * {@code maxLatencyNanos}, so an instance that fails fast does not look cheap.
+     */
+    synchronized void complete(long latencyNanos, boolean error, LoadBalancerStats.Settings settings) {
+        inFlight.updateAndGet(n -> Math.max(0, n - 1));
+        long now = System.nanoTime();
+        if (error) {
+            latencyNanos = Math.max(latencyNanos, settings.maxLatencyNanos());
+        }
+        if (latencyNanos >= 0) {
+            if (lastSampleNanos == 0) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(now - lastSampleNanos) / (double) settings.decayNanos());
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastSampleNanos = now;
+            samples++;
+        }
+        requests++;
+        if (error) {
+            errors++;
+            consecutiveErrors++;
+        } else {
+            consecutiveErrors = 0;
+        }
+    }
+
+    synchronized int consecutiveErrors() {
+        return consecutiveErrors;
+    }
+
+    // Smoothed latency, or -1 until enough samples have been seen to judge the instance by it
+    synchronized double settledLatencyNanos() {
+        return samples >= MIN_LATENCY_SAMPLES ? ewmaNanos : -1;
+    }
+
+    /** Ejects for the base duration times the number of ejections so far, capped at ten. */
+    synchronized void eject(LoadBalancerStats.Settings settings) {
+        ejections++;
+        ejectedUntilNanos = System.nanoTime() + settings.ejectionNanos() * Math.min(ejections, 10);
+        // Start afresh when it returns, so one bad spell does not eject it again immediately
+        consecutiveErrors = 0;
+        ewmaNanos = 0;
+        lastSampleNanos = 0;
+        samples = 0;
+    }
+
+    synchronized boolean isEjected(long now) {
+        return ejectedUntilNanos - now > 0;
+    }
+
+    /**
+     * Expected wait on this instance: smoothed latency scaled by the queue a new request joins.
+     * An instance without a latency sample yet (new, or back from ejection) is assumed to be as
+     * fast as {@code priorNanos}, so it is not treated as free until its first response.
+     */
+    synchronized double cost(double priorNanos) {
+        double latency = lastSampleNanos == 0 ? priorNanos : ewmaNanos;
+        return latency * (inFlight.get() + 1);
+    }
+
+    // Smoothed latency, or -1 before the first sample
+    synchronized double latencyNanos() {
+        return lastSampleNanos == 0 ? -1 : ewmaNanos;
+    }
+
+    synchronized Snapshot snapshot() {
+        long now = System.nanoTime();
+        return new Snapshot(instanceId, uri, inFlight.get(), ewmaNanos / 1_000_000, requests, errors,
+                consecutiveErrors, ejections, isEjected(now) ? (ejectedUntilNanos - now) / 1_000_000 : 0);
+    }
+
+    public record Snapshot(String instanceId, String uri, int inFlight, double ewmaLatencyMs, long requests,
+                           long errors, int consecutiveErrors, int ejections, long ejectedForMs) {
+    }
+}
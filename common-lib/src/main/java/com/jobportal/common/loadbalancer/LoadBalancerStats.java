@@ -0,0 +1,115 @@
+package com.jobportal.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-service, per-instance {@link InstanceStats}, shared by every load-balanced client of
+ * the application: the gateway's {@code lb://} routes and the Feign clients feed it through
+ * {@link LoadBalancerStatsLifecycle} and {@link PowerOfTwoChoicesLoadBalancer} reads it.
+ * <p>
+ * An instance is ejected after {@code consecutiveErrors} failures in a row, or when its
+ * latency EWMA is above {@code maxLatencyNanos} and more than {@link #LATENCY_OUTLIER_FACTOR}
+ * times that of the fastest instance still in rotation, so a service that is slow everywhere
+ * is not emptied. At most {@code maxEjectedPercent} of a service's instances are ejected at once.
+ */
+public class LoadBalancerStats {
+    static final double LATENCY_OUTLIER_FACTOR = 3;
+    // Assumed latency of cold instances when no instance of the service has been measured yet
+    static final double DEFAULT_PRIOR_NANOS = 1_000_000;
+
+    private final Settings settings;
+    private final Map<String, Map<String, InstanceStats>> services = new ConcurrentHashMap<>();
+
+    public LoadBalancerStats(Settings settings) {
+        this.settings = settings;
+    }
+
+    public InstanceStats get(ServiceInstance instance) {
+        return services.computeIfAbsent(instance.getServiceId(), id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key(instance), key -> new InstanceStats(key, instance.getUri().toString()));
+    }
+
+    void onStart(ServiceInstance instance) {
+        get(instance).start();
+    }
+
+    void onComplete(ServiceInstance instance, long latencyNanos, boolean error) {
+        InstanceStats stats = get(instance);
+        stats.complete(latencyNanos, error, settings);
+        long now = System.nanoTime();
+        if (stats.isEjected(now)) {
+            return;
+        }
+        Map<String, InstanceStats> instances = services.get(instance.getServiceId());
+        boolean outlier = stats.consecutiveErrors() >= settings.consecutiveErrors()
+                || isLatencyOutlier(stats, instances, now);
+        if (outlier && mayEject(instances, now)) {
+            stats.eject(settings);
+        }
+    }
+
+    // Drops instances no longer registered, so they neither count towards nor block ejection
+    void retain(String serviceId, List<ServiceInstance> instances) {
+        Map<String, InstanceStats> known = services.get(serviceId);
+        if (known != null && known.size() > instances.size()) {
+            known.keySet().retainAll(instances.stream().map(LoadBalancerStats::key).toList());
+        }
+    }
+
+    /** Median latency EWMA of the service's measured instances, the cost basis of cold ones. */
+    double priorLatencyNanos(String serviceId) {
+        Map<String, InstanceStats> instances = services.get(serviceId);
+        if (instances == null) {
+            return DEFAULT_PRIOR_NANOS;
+        }
+        double[] latencies = instances.values().stream()
+                .mapToDouble(InstanceStats::latencyNanos)
+                .filter(latency -> latency >= 0)
+                .sorted()
+                .toArray();
+        return latencies.length == 0 ? DEFAULT_PRIOR_NANOS : latencies[latencies.length / 2];
+    }
+
+    public Map<String, List<InstanceStats.Snapshot>> snapshot() {
+        Map<String, List<InstanceStats.Snapshot>> snapshot = new TreeMap<>();
+        services.forEach((serviceId, instances) -> {
+            List<InstanceStats.Snapshot> stats = new ArrayList<>();
+            instances.values().forEach(instance -> stats.add(instance.snapshot()));
+            snapshot.put(serviceId, stats);
+        });
+        return snapshot;
+    }
+
+    private boolean isLatencyOutlier(InstanceStats stats, Map<String, InstanceStats> instances, long now) {
+        double latency = stats.settledLatencyNanos();
+        if (latency <= settings.maxLatencyNanos()) {
+            return false;
+        }
+        double fastest = instances.values().stream()
+                .filter(other -> other != stats && !other.isEjected(now))
+                .mapToDouble(InstanceStats::settledLatencyNanos)
+                .filter(other -> other >= 0)
+                .min()
+                .orElse(Double.MAX_VALUE);
+        return latency > fastest * LATENCY_OUTLIER_FACTOR;
+    }
+
+    private boolean mayEject(Map<String, InstanceStats> instances, long now) {
+        long ejected = instances.values().stream().filter(stats -> stats.isEjected(now)).count();
+        return (ejected + 1) * 100 <= (long) instances.size() * settings.maxEjectedPercent();
+    }
+
+    static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    public record Settings(long decayNanos, int consecutiveErrors, long maxLatencyNanos,
+                           long ejectionNanos, int maxEjectedPercent) {
+    }
+}
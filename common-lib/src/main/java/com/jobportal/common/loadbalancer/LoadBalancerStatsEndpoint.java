@@ -0,0 +1,22 @@
+package com.jobportal.common.loadbalancer;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Map;
+
+// /actuator/loadbalancer: per-instance in-flight, latency EWMA, errors and ejection state
+@Endpoint(id = "loadbalancer")
+public class LoadBalancerStatsEndpoint {
+    private final LoadBalancerStats stats;
+
+    public LoadBalancerStatsEndpoint(LoadBalancerStats stats) {
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public Map<String, List<InstanceStats.Snapshot>> instances() {
+        return stats.snapshot();
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobportal.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Records in-flight count, latency and errors (exceptions and 5xx responses) of every
+ * load-balanced call into {@link LoadBalancerStats}. Called by the gateway's load-balancer
+ * filter and by Feign's blocking load-balancer client.
+ */
+public class LoadBalancerStatsLifecycle
+        implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+    private final LoadBalancerStats stats;
+
+    public LoadBalancerStatsLifecycle(LoadBalancerStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        request.getContext().setRequestStartTime(System.nanoTime());
+        stats.onStart(lbResponse.getServer());
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> context) {
+        Response<ServiceInstance> lbResponse = context.getLoadBalancerResponse();
+        if (context.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        long startNanos = context.getLoadBalancerRequest().getContext().getRequestStartTime();
+        long latencyNanos = startNanos > 0 ? System.nanoTime() - startNanos : -1;
+        stats.onComplete(lbResponse.getServer(), latencyNanos, isError(context));
+    }
+
+    private static boolean isError(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> context) {
+        if (context.status() == CompletionContext.Status.FAILED) {
+            return true;
+        }
+        ResponseData response = context.getClientResponse();
+        HttpStatusCode status = response != null ? response.getHttpStatus() : null;
+        return status != null && status.is5xxServerError();
+    }
+}
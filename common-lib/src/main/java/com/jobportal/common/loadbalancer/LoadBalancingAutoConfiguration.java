@@ -0,0 +1,53 @@
+package com.jobportal.common.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Replaces the round-robin balancer behind {@code lb://} routes and Feign clients with
+ * {@link PowerOfTwoChoicesLoadBalancer}. Outliers (see {@link LoadBalancerStats}) are ejected
+ * for {@code loadbalancer.ejection.base-duration-ms} times their ejection count. Disable with
+ * {@code loadbalancer.p2c.enabled=false}.
+ */
+@AutoConfiguration
+@ConditionalOnClass(ReactorServiceInstanceLoadBalancer.class)
+@ConditionalOnProperty(name = "loadbalancer.p2c.enabled", matchIfMissing = true)
+@LoadBalancerClients(defaultConfiguration = PowerOfTwoChoicesConfiguration.class)
+public class LoadBalancingAutoConfiguration {
+
+    @Bean
+    public LoadBalancerStats loadBalancerStats(
+            @Value("${loadbalancer.ewma.decay-ms:10000}") long decayMs,
+            @Value("${loadbalancer.ejection.consecutive-errors:5}") int consecutiveErrors,
+            @Value("${loadbalancer.ejection.max-latency-ms:2000}") long maxLatencyMs,
+            @Value("${loadbalancer.ejection.base-duration-ms:30000}") long ejectionMs,
+            @Value("${loadbalancer.ejection.max-ejected-percent:50}") int maxEjectedPercent) {
+        return new LoadBalancerStats(new LoadBalancerStats.Settings(
+                Duration.ofMillis(decayMs).toNanos(), consecutiveErrors, Duration.ofMillis(maxLatencyMs).toNanos(),
+                Duration.ofMillis(ejectionMs).toNanos(), maxEjectedPercent));
+    }
+
+    @Bean
+    public LoadBalancerStatsLifecycle loadBalancerStatsLifecycle(LoadBalancerStats stats) {
+        return new LoadBalancerStatsLifecycle(stats);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(Endpoint.class)
+    static class EndpointConfiguration {
+
+        @Bean
+        public LoadBalancerStatsEndpoint loadBalancerStatsEndpoint(LoadBalancerStats stats) {
+            return new LoadBalancerStatsEndpoint(stats);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobportal.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-service load-balancer configuration, registered as the default for every client by
+ * {@link LoadBalancingAutoConfiguration}. Deliberately not a {@code @Configuration}: it is
+ * instantiated in each service's child context, not component-scanned.
+ */
+public class PowerOfTwoChoicesConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> powerOfTwoChoicesLoadBalancer(Environment environment,
+                                                                           LoadBalancerClientFactory clientFactory,
+                                                                           LoadBalancerStats stats) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new PowerOfTwoChoicesLoadBalancer(
+                clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), serviceId, stats);
+    }
+}
@@ -0,0 +1,77 @@
+package com.jobportal.common.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices: samples two instances at random and sends the request to the one
+ * with the lower {@link InstanceStats#cost() cost} (latency EWMA times in-flight + 1). This
+ * steers traffic away from slow replicas without herding onto the single fastest one, or onto
+ * a cold instance: until it is measured, its latency is taken as the median of its peers.
+ * Ejected instances are skipped unless every instance is ejected.
+ */
+public class PowerOfTwoChoicesLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final LoadBalancerStats stats;
+
+    public PowerOfTwoChoicesLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                         String serviceId,
+                                         LoadBalancerStats stats) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.stats = stats;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = choose(instances);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        stats.retain(serviceId, instances);
+        long now = System.nanoTime();
+        List<ServiceInstance> candidates = instances.stream()
+                .filter(instance -> !stats.get(instance).isEjected(now))
+                .toList();
+        if (candidates.isEmpty()) {
+            candidates = instances;
+        }
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        double prior = stats.priorLatencyNanos(serviceId);
+        return new DefaultResponse(stats.get(a).cost(prior) <= stats.get(b).cost(prior) ? a : b);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jobportal.common.metrics;
+
+/**
+ * Names of the latency meters the services publish. Most are produced by Spring Boot,
+ * Spring Cloud and Feign instrumentation; {@link #GATEWAY_AUTH} is recorded by the gateway.
+ */
+public final class MetricNames {
+    /** Inbound requests per route template (servlet and WebFlux services). */
+    public static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    /** Outbound Feign calls, tagged with clientName and uri template. */
+    public static final String HTTP_CLIENT_REQUESTS = "http.client.requests";
+    /** Spring Data repository method invocations, tagged with repository and method. */
+    public static final String REPOSITORY_INVOCATIONS = "spring.data.repository.invocations";
+    /** Requests proxied by the gateway, tagged with routeId. */
+    public static final String GATEWAY_REQUESTS = "spring.cloud.gateway.requests";
+    /** JWT verification in the gateway AuthenticationFilter, tagged with route and outcome. */
+    public static final String GATEWAY_AUTH = "gateway.auth";
+    /** Requests rejected with 429 by the gateway RateLimitFilter, tagged with route. */
+    public static final String GATEWAY_RATE_LIMITED = "gateway.ratelimit.rejected";
+    /** Logins turned away with 503 because the user-service login executor was saturated, tagged with reason. */
+    public static final String USER_LOGIN_REJECTED = "user.login.rejected";
+    /** Connections handed out by the replica routing DataSource, tagged with route (primary, replica, sticky, fallback). */
+    public static final String DATASOURCE_ROUTED = "datasource.routed";
+    /** Read replicas currently healthy and within the lag limit. */
+    public static final String DATASOURCE_REPLICAS_AVAILABLE = "datasource.replicas.available";
+    /** Time spent waiting for a pooled JDBC connection. */
+    public static final String HIKARI_ACQUIRE = "hikaricp.connections.acquire";
+
+    private MetricNames() {
+    }
+}
@@ -0,0 +1,55 @@
+package com.jobportal.common.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Shared metrics setup for every service that has Actuator on the classpath: tags all
+ * meters with the application name and publishes histogram buckets for the hot-path
+ * timers, so p99 can be computed per route/client/repository method in Prometheus.
+ */
+@AutoConfiguration
+@ConditionalOnClass({MeterRegistry.class, MeterRegistryCustomizer.class})
+public class MetricsAutoConfiguration {
+    private static final Set<String> HISTOGRAM_METERS = Set.of(
+            MetricNames.HTTP_SERVER_REQUESTS,
+            MetricNames.HTTP_CLIENT_REQUESTS,
+            MetricNames.REPOSITORY_INVOCATIONS,
+            MetricNames.GATEWAY_REQUESTS,
+            MetricNames.GATEWAY_AUTH,
+            MetricNames.HIKARI_ACQUIRE);
+
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> applicationTagCustomizer(
+            @Value("${spring.application.name:unknown}") String applicationName) {
+        return registry -> registry.config().commonTags("application", applicationName);
+    }
+
+    @Bean
+    public MeterFilter hotPathHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_METERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
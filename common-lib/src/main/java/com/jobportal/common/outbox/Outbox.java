@@ -0,0 +1,28 @@
+package com.jobportal.common.outbox;
+
+import com.jobportal.common.event.DomainEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Records domain events in the service's own database. Must be called inside the
+ * transaction that saves the entity, so the event is stored if and only if the change
+ * commits; {@link OutboxRelay} delivers it afterwards, off the request path.
+ */
+@RequiredArgsConstructor
+public class Outbox {
+    private final OutboxEventRepository repository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        repository.save(new OutboxEvent(event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<DomainEvent> events) {
+        repository.saveAll(events.stream().map(OutboxEvent::new).toList());
+    }
+}
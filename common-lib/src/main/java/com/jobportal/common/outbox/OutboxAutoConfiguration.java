@@ -0,0 +1,53 @@
+package com.jobportal.common.outbox;
+
+import com.jobportal.common.event.EventBus;
+import com.jobportal.common.event.HttpEventForwarder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Transactional outbox for every service with JPA and an {@link EventBus}. Registers this
+ * package with the service's entity and repository scanning, so each service gets an
+ * {@code outbox_event} table in its own database.
+ */
+@AutoConfiguration(before = {HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+@ConditionalOnClass(JpaRepository.class)
+@ConditionalOnBean(EventBus.class)
+@ConditionalOnProperty(name = "outbox.enabled", matchIfMissing = true)
+@EnableScheduling
+public class OutboxAutoConfiguration {
+
+    @Bean
+    public Outbox outbox(OutboxEventRepository repository) {
+        return new Outbox(repository);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository repository,
+                                   EventBus eventBus,
+                                   ObjectProvider<HttpEventForwarder> forwarder,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${outbox.relay.batch-size:100}") int batchSize,
+                                   @Value("${outbox.relay.lease-ms:30000}") long leaseMs,
+                                   @Value("${outbox.relay.retry-base-ms:1000}") long retryBaseMs,
+                                   @Value("${outbox.relay.retry-max-ms:60000}") long retryMaxMs) {
+        return new OutboxRelay(repository, eventBus, forwarder.getIfAvailable(),
+                new TransactionTemplate(transactionManager), batchSize, Duration.ofMillis(leaseMs),
+                Duration.ofMillis(retryBaseMs), Duration.ofMillis(retryMaxMs));
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobportal.common.outbox;
+
+import com.jobportal.common.event.DomainEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+@Entity
+@Table(name = "outbox_event")
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+    /** Delivery target name for the service's own {@link com.jobportal.common.event.EventBus}. */
+    public static final String LOCAL = "local";
+
+    // Pooled ids (not IDENTITY) so Hibernate can batch inserts of many events
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", allocationSize = 50)
+    private long id;
+
+    @Column(nullable = false)
+    private String type;
+
+    private int aggregateId;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    // Relay state: failed delivery rounds, earliest next round, and targets that already have the event
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String deliveredTo;
+
+    public OutboxEvent(DomainEvent event) {
+        this.type = event.getType();
+        this.aggregateId = event.getAggregateId();
+        this.occurredAt = event.getOccurredAt();
+    }
+
+    public DomainEvent toDomainEvent() {
+        return new DomainEvent(type, aggregateId, occurredAt);
+    }
+
+    public boolean isDeliveredTo(String target) {
+        return deliveredTo != null && Arrays.asList(deliveredTo.split(",")).contains(target);
+    }
+
+    public void markDelivered(String target) {
+        if (!isDeliveredTo(target)) {
+            deliveredTo = deliveredTo == null ? target : deliveredTo + "," + target;
+        }
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
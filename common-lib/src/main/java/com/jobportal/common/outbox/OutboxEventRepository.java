@@ -0,0 +1,21 @@
+package com.jobportal.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // Rows locked by another replica's relay are skipped rather than waited on or relayed twice
+    @Query(value = "select * from outbox_event where next_attempt_at is null or next_attempt_at <= :now " +
+            "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<OutboxEvent> claimBatch(LocalDateTime now, int limit);
+
+    // An update, not a merge: a row another relay already delivered and deleted must stay deleted
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.deliveredTo = :deliveredTo where e.id = :id")
+    int recordAttempt(long id, int attempts, LocalDateTime nextAttemptAt, String deliveredTo);
+}
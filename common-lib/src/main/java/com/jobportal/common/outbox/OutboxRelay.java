@@ -0,0 +1,111 @@
+package com.jobportal.common.outbox;
+
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventBus;
+import com.jobportal.common.event.HttpEventForwarder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drains the outbox in id order. Each batch is claimed with {@code FOR UPDATE SKIP LOCKED} and
+ * leased by pushing its next attempt past {@code lease}, then that short transaction commits, so
+ * no row lock or connection is held while events are delivered and service replicas relay
+ * disjoint rows. Every event is published once on the local {@link EventBus} and sent to each
+ * remote subscriber until all instances of that subscriber acknowledge it; the row is deleted
+ * only when every target has it. Failed targets are retried with exponential backoff. Delivery
+ * is at-least-once (a crash before the outcome is written replays the batch once the lease
+ * expires), so listeners must be idempotent.
+ */
+@Slf4j
+public class OutboxRelay {
+    private final OutboxEventRepository repository;
+    private final EventBus eventBus;
+    private final HttpEventForwarder forwarder;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryBase;
+    private final Duration retryMax;
+
+    public OutboxRelay(OutboxEventRepository repository, EventBus eventBus, HttpEventForwarder forwarder,
+                       TransactionTemplate transactionTemplate, int batchSize, Duration lease,
+                       Duration retryBase, Duration retryMax) {
+        this.repository = repository;
+        this.eventBus = eventBus;
+        this.forwarder = forwarder;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.retryBase = retryBase;
+        this.retryMax = retryMax;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        int claimed;
+        do {
+            claimed = relayBatch();
+        } while (claimed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claim());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // No transaction is open here: the rows are leased, not locked
+        for (OutboxEvent event : batch) {
+            if (!event.isDeliveredTo(OutboxEvent.LOCAL)) {
+                eventBus.publish(event.toDomainEvent());
+                event.markDelivered(OutboxEvent.LOCAL);
+            }
+        }
+
+        List<String> subscribers = forwarder != null ? forwarder.subscribers() : List.of();
+        for (String subscriber : subscribers) {
+            List<OutboxEvent> pending = batch.stream().filter(event -> !event.isDeliveredTo(subscriber)).toList();
+            List<DomainEvent> events = pending.stream().map(OutboxEvent::toDomainEvent).toList();
+            if (!pending.isEmpty() && forwarder.forward(subscriber, events)) {
+                pending.forEach(event -> event.markDelivered(subscriber));
+            }
+        }
+
+        List<Long> delivered = batch.stream()
+                .filter(event -> subscribers.stream().allMatch(event::isDeliveredTo))
+                .map(OutboxEvent::getId)
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> retries = batch.stream()
+                .filter(event -> !delivered.contains(event.getId()))
+                .toList();
+        retries.forEach(event -> event.scheduleRetry(now.plus(backoff(event.getAttempts()))));
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                repository.deleteAllByIdInBatch(delivered);
+            }
+            retries.forEach(event -> repository.recordAttempt(event.getId(), event.getAttempts(),
+                    event.getNextAttemptAt(), event.getDeliveredTo()));
+        });
+        log.debug("Relayed {} of {} outbox event(s)", delivered.size(), batch.size());
+        return batch.size();
+    }
+
+    // Short transaction: lock the due rows, move them out of every relay's view for the lease, commit
+    private List<OutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = repository.claimBatch(now, batchSize);
+        batch.forEach(event -> event.setNextAttemptAt(now.plus(lease)));
+        return batch;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts, 16));
+        return delay.compareTo(retryMax) > 0 ? retryMax : delay;
+    }
+}
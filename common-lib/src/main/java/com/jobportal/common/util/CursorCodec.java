@@ -0,0 +1,39 @@
+package com.jobportal.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Encodes the seek position of a keyset page (sort key values plus id) into an
+ * opaque, URL-safe cursor string and back.
+ */
+public final class CursorCodec {
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(part -> Objects.toString(part, ""))
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return parts;
+    }
+}
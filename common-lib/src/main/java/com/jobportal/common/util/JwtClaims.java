@@ -0,0 +1,6 @@
+package com.jobportal.common.util;
+
+import java.time.Instant;
+
+public record JwtClaims(String email, Long userId, String role, Instant expiresAt) {
+}
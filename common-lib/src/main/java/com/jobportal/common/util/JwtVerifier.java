@@ -0,0 +1,88 @@
+package com.jobportal.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Thread-safe JWT verifier that builds the signing key and parser once and reads all
+ * claims from a single parse. Verified tokens are cached by SHA-256 hash until their
+ * own expiry, so repeat requests skip signature verification entirely.
+ */
+public class JwtVerifier {
+    private final JwtParser parser;
+    private final Cache<String, JwtClaims> cache;
+
+    public JwtVerifier(String secret, long maxCachedTokens) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxCachedTokens)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * Returns the claims of a valid, unexpired token.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public JwtClaims verify(String token) {
+        String key = hash(token);
+        JwtClaims claims = cache.getIfPresent(key);
+        if (claims != null) {
+            return claims;
+        }
+
+        Claims body = parser.parseSignedClaims(token).getPayload();
+        if (body.getExpiration() == null) {
+            throw new JwtException("Token has no expiration");
+        }
+        claims = new JwtClaims(
+                body.getSubject(),
+                body.get("userId", Long.class),
+                body.get("role", String.class),
+                body.getExpiration().toInstant());
+        cache.put(key, claims);
+        return claims;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, JwtClaims> {
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
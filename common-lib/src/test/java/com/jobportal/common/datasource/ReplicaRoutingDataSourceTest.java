@@ -0,0 +1,139 @@
+package com.jobportal.common.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two in-memory H2 databases in MySQL mode stand in for the primary and a replica
+class ReplicaRoutingDataSourceTest {
+    private static final String LAG_QUERY = "select seconds from replica_lag";
+
+    private final AtomicReference<String> currentUser = new AtomicReference<>();
+    private JdbcDataSource replica;
+    private ReplicaSet replicas;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("create table replica_lag (seconds bigint)");
+        new JdbcTemplate(replica).execute("insert into replica_lag values (0)");
+
+        replicas = new ReplicaSet(List.of(replica), LAG_QUERY, 5, 1);
+        routing = new ReplicaRoutingDataSource(primary, replicas,
+                new ReadYourWrites(Duration.ofMillis(200), currentUser::get));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        replicas.checkAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        currentUser.set(null);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertThat(readOnlyServer()).isEqualTo("replica");
+        assertThat(routing.routedCount(ReplicaRoutingDataSource.Route.REPLICA)).isEqualTo(1);
+    }
+
+    @Test
+    void writesAndNonTransactionalWorkUsePrimary() {
+        assertThat(readWriteServer()).isEqualTo("primary");
+        assertThat(server()).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 30");
+        replicas.checkAll();
+
+        assertThat(readOnlyServer()).isEqualTo("primary");
+        assertThat(routing.routedCount(ReplicaRoutingDataSource.Route.FALLBACK)).isEqualTo(1);
+
+        new JdbcTemplate(replica).update("update replica_lag set seconds = 1");
+        replicas.checkAll();
+        assertThat(readOnlyServer()).isEqualTo("replica");
+    }
+
+    @Test
+    void failingProbeFallsBackToPrimary() {
+        new JdbcTemplate(replica).execute("drop table replica_lag");
+        replicas.checkAll();
+
+        assertThat(replicas.snapshot()).singleElement()
+                .satisfies(replicaStatus -> assertThat(replicaStatus.available()).isFalse());
+        assertThat(readOnlyServer()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnPrimaryShortlyAfterOwnWrite() throws InterruptedException {
+        currentUser.set("42");
+        readWrite.executeWithoutResult(status -> jdbc.update("insert into marker values ('write')"));
+
+        assertThat(readOnlyServer()).isEqualTo("primary");
+        assertThat(routing.routedCount(ReplicaRoutingDataSource.Route.STICKY)).isEqualTo(1);
+
+        currentUser.set("7");
+        assertThat(readOnlyServer()).isEqualTo("replica");
+
+        currentUser.set("42");
+        Thread.sleep(300);
+        assertThat(readOnlyServer()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinReads() {
+        currentUser.set("42");
+        readWrite.executeWithoutResult(status -> {
+            jdbc.update("insert into marker values ('write')");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyServer()).isEqualTo("replica");
+    }
+
+    private String readOnlyServer() {
+        return readOnly.execute(status -> server());
+    }
+
+    private String readWriteServer() {
+        return readWrite.execute(status -> server());
+    }
+
+    private String server() {
+        return jdbc.queryForObject("select name from marker order by name limit 1", String.class);
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table marker (name varchar(20))");
+        jdbc.update("insert into marker values (?)", name);
+        return dataSource;
+    }
+}
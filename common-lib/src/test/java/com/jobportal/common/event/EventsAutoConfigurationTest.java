@@ -0,0 +1,53 @@
+package com.jobportal.common.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EventsAutoConfigurationTest {
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(EventsAutoConfiguration.class, RestTemplateAutoConfiguration.class))
+            .withBean(DiscoveryClient.class, () -> mock(DiscoveryClient.class))
+            // SpringApplication sets this up; it splits the comma-separated subscriber list
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()));
+
+    @Test
+    void onlyTheEventBusByDefault() {
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(EventBus.class);
+            assertThat(context).doesNotHaveBean(HttpEventForwarder.class);
+            assertThat(context).doesNotHaveBean(EventController.class);
+        });
+    }
+
+    @Test
+    void publishersGetAForwarderForTheirSubscribers() {
+        runner.withPropertyValues("events.subscribers=application-service,gateway-service", "events.secret=s3cret")
+                .run(context -> assertThat(context.getBean(HttpEventForwarder.class).subscribers())
+                        .containsExactly("application-service", "gateway-service"));
+    }
+
+    @Test
+    void receiversGetTheEndpoint() {
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(EventsAutoConfiguration.class))
+                .withPropertyValues("events.receiver.enabled=true", "events.secret=s3cret")
+                .run(context -> assertThat(context).hasSingleBean(EventController.class));
+    }
+
+    @Test
+    void missingSecretFailsStartupWithAClearMessage() {
+        runner.withPropertyValues("events.subscribers=")
+                .run(context -> assertThat(context).getFailure()
+                        .rootCause()
+                        .hasMessageContaining("EVENTS_SECRET"));
+    }
+}
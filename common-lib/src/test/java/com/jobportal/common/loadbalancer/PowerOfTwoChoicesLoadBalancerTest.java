@@ -0,0 +1,83 @@
+package com.jobportal.common.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PowerOfTwoChoicesLoadBalancerTest {
+    private static final int PICKS = 60;
+
+    private final LoadBalancerStats.Settings settings = new LoadBalancerStats.Settings(
+            TimeUnit.SECONDS.toNanos(10), 5, TimeUnit.SECONDS.toNanos(2), 1, 50);
+    private final LoadBalancerStats stats = new LoadBalancerStats(settings);
+    private final ServiceInstance warmA = instance("a");
+    private final ServiceInstance warmB = instance("b");
+    private final ServiceInstance cold = instance("c");
+    private final PowerOfTwoChoicesLoadBalancer balancer = balancer(warmA, warmB, cold);
+
+    @Test
+    void concurrentPicksSpreadOverColdInstance() {
+        warmUp(warmA, warmB);
+
+        Map<String, Integer> picks = pickConcurrently();
+
+        assertThat(picks.getOrDefault("c", 0)).isLessThan(PICKS / 2);
+        assertThat(picks.getOrDefault("a", 0)).isGreaterThan(PICKS / 6);
+        assertThat(picks.getOrDefault("b", 0)).isGreaterThan(PICKS / 6);
+    }
+
+    @Test
+    void instanceBackFromEjectionIsNotFree() {
+        warmUp(warmA, warmB, cold);
+        stats.get(cold).eject(settings);
+
+        Map<String, Integer> picks = pickConcurrently();
+
+        assertThat(picks.getOrDefault("c", 0)).isLessThan(PICKS / 2);
+    }
+
+    // Every pick starts a request that is still in flight when the next one is chosen
+    private Map<String, Integer> pickConcurrently() {
+        Map<String, Integer> picks = new HashMap<>();
+        for (int i = 0; i < PICKS; i++) {
+            ServiceInstance chosen = balancer.choose(new DefaultRequest<>()).block().getServer();
+            stats.onStart(chosen);
+            picks.merge(chosen.getInstanceId(), 1, Integer::sum);
+        }
+        return picks;
+    }
+
+    private void warmUp(ServiceInstance... instances) {
+        for (ServiceInstance instance : instances) {
+            for (int i = 0; i < 5; i++) {
+                stats.onStart(instance);
+                stats.onComplete(instance, TimeUnit.MILLISECONDS.toNanos(10), false);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private PowerOfTwoChoicesLoadBalancer balancer(ServiceInstance... instances) {
+        ServiceInstanceListSupplier supplier = ServiceInstanceListSuppliers.from("job-service", instances);
+        ObjectProvider<ServiceInstanceListSupplier> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(supplier);
+        return new PowerOfTwoChoicesLoadBalancer(provider, "job-service", stats);
+    }
+
+    private static ServiceInstance instance(String id) {
+        return new DefaultServiceInstance(id, "job-service", id + ".local", 8082, false);
+    }
+}
@@ -0,0 +1,110 @@
+package com.jobportal.common.outbox;
+
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventBus;
+import com.jobportal.common.event.HttpEventForwarder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final EventBus eventBus = mock(EventBus.class);
+    private final HttpEventForwarder forwarder = mock(HttpEventForwarder.class);
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+    private OutboxRelay relay;
+    private OutboxEvent event;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> {
+            inTransaction.set(false);
+            return null;
+        }).when(transactionManager).commit(any());
+        relay = new OutboxRelay(repository, eventBus, forwarder, new TransactionTemplate(transactionManager),
+                10, Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(4));
+
+        event = new OutboxEvent(DomainEvent.of("JOB_CREATED", 7));
+        event.setId(1L);
+        when(repository.claimBatch(any(), anyInt())).thenReturn(List.of(event));
+        when(forwarder.subscribers()).thenReturn(List.of("application-service", "gateway-service"));
+    }
+
+    @Test
+    void keepsEventUntilEverySubscriberAcknowledges() {
+        when(forwarder.forward(eq("application-service"), any())).thenReturn(true);
+        when(forwarder.forward(eq("gateway-service"), any())).thenReturn(false);
+
+        relay.relay();
+
+        verify(repository, never()).deleteAllByIdInBatch(any());
+        assertThat(event.isDeliveredTo("application-service")).isTrue();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        when(forwarder.forward(eq("gateway-service"), any())).thenReturn(true);
+        relay.relay();
+
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        // Neither the local bus nor the subscriber that already acknowledged sees the retry
+        verify(eventBus, times(1)).publish(any());
+        verify(forwarder, times(1)).forward(eq("application-service"), any());
+    }
+
+    @Test
+    void forwardsOutsideTheClaimTransactionAndWritesTheOutcomeBack() {
+        when(repository.claimBatch(any(), anyInt())).thenAnswer(invocation -> {
+            assertThat(inTransaction).isTrue();
+            return List.of(event);
+        });
+        when(forwarder.forward(any(), any())).thenAnswer(invocation -> {
+            assertThat(inTransaction).isFalse();
+            // Leased while in flight, so another replica's claim skips the row
+            assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(20));
+            return !invocation.getArgument(0).equals("gateway-service");
+        });
+
+        relay.relay();
+
+        verify(forwarder, times(2)).forward(any(), any());
+        verify(repository).recordAttempt(eq(1L), eq(1), any(), eq("local,application-service"));
+        assertThat(event.getNextAttemptAt()).isBefore(LocalDateTime.now().plusSeconds(2));
+    }
+
+    @Test
+    void backsOffExponentiallyUpToTheMaximum() {
+        when(forwarder.forward(any(), any())).thenReturn(false);
+
+        for (int round = 1; round <= 4; round++) {
+            LocalDateTime before = LocalDateTime.now();
+            relay.relay();
+            long expectedSeconds = Math.min(4, 1L << (round - 1));
+            assertThat(Duration.between(before, event.getNextAttemptAt()).toSeconds())
+                    .isBetween(expectedSeconds - 1, expectedSeconds);
+        }
+        assertThat(event.getAttempts()).isEqualTo(4);
+    }
+}
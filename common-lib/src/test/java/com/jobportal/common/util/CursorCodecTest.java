@@ -0,0 +1,50 @@
+package com.jobportal.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void roundTripsSortKeysAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+        String cursor = CursorCodec.encode(createdAt, 42);
+        String[] position = CursorCodec.decode(cursor, 2);
+
+        assertThat(LocalDateTime.parse(position[0])).isEqualTo(createdAt);
+        assertThat(Integer.parseInt(position[1])).isEqualTo(42);
+    }
+
+    @Test
+    void roundTripsScoresAndMissingValues() {
+        String[] position = CursorCodec.decode(CursorCodec.encode(3.141592653589793, null, 7), 3);
+
+        assertThat(Double.parseDouble(position[0])).isEqualTo(3.141592653589793);
+        assertThat(position[1]).isEmpty();
+        assertThat(position[2]).isEqualTo("7");
+    }
+
+    @Test
+    void cursorIsUrlSafe() {
+        String cursor = CursorCodec.encode(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        String cursor = CursorCodec.encode(LocalDateTime.of(2024, 5, 1, 12, 0), 42);
+
+        assertThatThrownBy(() -> CursorCodec.decode(cursor, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> CursorCodec.decode("not a cursor!", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+}
@@ -0,0 +1,75 @@
+package com.jobportal.common.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtVerifierTest {
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-bytes-long";
+
+    private final JwtVerifier verifier = new JwtVerifier(SECRET, 100);
+
+    @Test
+    void readsAllClaimsFromOneParse() {
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1)).truncatedTo(ChronoUnit.SECONDS);
+
+        JwtClaims claims = verifier.verify(token(SECRET, expiresAt));
+
+        assertThat(claims).isEqualTo(new JwtClaims("jane@example.com", 42L, "EMPLOYER", expiresAt));
+    }
+
+    @Test
+    void repeatVerificationsAreServedFromTheCache() {
+        String token = token(SECRET, Instant.now().plus(Duration.ofHours(1)));
+
+        assertThat(verifier.verify(token)).isSameAs(verifier.verify(token));
+        assertThat(verifier.verify(token(SECRET, Instant.now().plus(Duration.ofHours(2)))))
+                .isNotSameAs(verifier.verify(token));
+    }
+
+    @Test
+    void cachedTokenStopsVerifyingAtItsExpiry() throws InterruptedException {
+        Instant expiresAt = Instant.now().plusSeconds(2).truncatedTo(ChronoUnit.SECONDS);
+        String token = token(SECRET, expiresAt);
+        assertThat(verifier.verify(token).expiresAt()).isEqualTo(expiresAt);
+
+        Thread.sleep(Math.max(0, Duration.between(Instant.now(), expiresAt).toMillis()) + 100);
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKeyOrWithoutExpiry() {
+        String foreign = token("another-secret-key-that-is-at-least-32-bytes", Instant.now().plusSeconds(60));
+        String noExpiry = Jwts.builder()
+                .subject("jane@example.com")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThatThrownBy(() -> verifier.verify(foreign)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(noExpiry)).isInstanceOf(JwtException.class);
+        // A rejected token is not cached
+        assertThatThrownBy(() -> verifier.verify(noExpiry)).isInstanceOf(JwtException.class);
+    }
+
+    private static String token(String secret, Instant expiresAt) {
+        return Jwts.builder()
+                .subject("jane@example.com")
+                .claim("userId", 42)
+                .claim("role", "EMPLOYER")
+                .expiration(Date.from(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,7 @@
+package com.jobportal.gateway.cache;
+
+import org.springframework.http.MediaType;
+
+// Body kept as the serialized bytes received from the backend
+public record CachedResponse(byte[] body, MediaType contentType, String etag) {
+}
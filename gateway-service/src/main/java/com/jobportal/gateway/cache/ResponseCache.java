@@ -0,0 +1,84 @@
+package com.jobportal.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventBus;
+import com.jobportal.common.event.EventTypes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached job read responses, keyed by path and query. Bounded by total body bytes and a
+ * TTL; job change events purge the affected detail entry and every search result.
+ */
+@Component
+public class ResponseCache {
+    private static final String JOB_PATH = "/api/jobs/";
+    private static final String SEARCH_PATH = "/api/jobs/search";
+
+    private final Cache<String, CachedResponse> responses;
+    // Bumped on every purge so responses fetched before it are not stored after it
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(EventBus eventBus,
+                         MeterRegistry meterRegistry,
+                         @Value("${gateway.cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${gateway.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "gateway.responses");
+
+        eventBus.subscribe(EventTypes.JOB_CREATED, event -> purgeSearches());
+        eventBus.subscribe(EventTypes.JOB_DELETED, this::purgeJob);
+    }
+
+    public CachedResponse get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores the response unless a purge happened since {@code fetchedAtGeneration}.
+     *
+     * @return the entry, with its ETag, whether or not it was stored
+     */
+    public CachedResponse put(String key, byte[] body, MediaType contentType, long fetchedAtGeneration) {
+        CachedResponse response = new CachedResponse(body, contentType, etag(body));
+        if (generation.get() == fetchedAtGeneration) {
+            responses.put(key, response);
+        }
+        return response;
+    }
+
+    private void purgeJob(DomainEvent event) {
+        generation.incrementAndGet();
+        String detail = JOB_PATH + event.getAggregateId();
+        responses.asMap().keySet().removeIf(key -> key.equals(detail) || key.startsWith(detail + "?")
+                || key.startsWith(SEARCH_PATH));
+    }
+
+    private void purgeSearches() {
+        generation.incrementAndGet();
+        responses.asMap().keySet().removeIf(key -> key.startsWith(SEARCH_PATH));
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+}
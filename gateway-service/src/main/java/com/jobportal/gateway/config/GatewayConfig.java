@@ -1,13 +1,29 @@
 package com.jobportal.gateway.config;
 
-import org.springframework.cloud.gateway.route.RouteLocator;
-import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import com.jobportal.common.util.JwtVerifier;
+import com.jobportal.gateway.ratelimit.InMemoryRateLimiterBackend;
+import com.jobportal.gateway.ratelimit.RateLimiterBackend;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class GatewayConfig {
 
     // Additional custom route configurations can be added here if needed
     // The main routes are configured in application.yml
-}
\ No newline at end of file
+
+    @Bean
+    public JwtVerifier jwtVerifier(@Value("${jwt.secret}") String jwtSecret,
+                                   @Value("${jwt.cache.max-size:100000}") long maxCachedTokens) {
+        return new JwtVerifier(jwtSecret, maxCachedTokens);
+    }
+
+    @Bean
+    public RateLimiterBackend rateLimiterBackend(@Value("${ratelimit.max-keys:100000}") long maxKeys,
+                                                 @Value("${ratelimit.idle-expiry-seconds:600}") long idleExpirySeconds) {
+        return new InMemoryRateLimiterBackend(maxKeys, Duration.ofSeconds(idleExpirySeconds));
+    }
+}
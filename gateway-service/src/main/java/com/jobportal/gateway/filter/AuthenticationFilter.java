@@ -1,9 +1,15 @@
 package com.jobportal.gateway.filter;
 
-import com.jobportal.common.util.JwtUtil;
-import org.springframework.beans.factory.annotation.Value;
+import com.jobportal.common.metrics.MetricNames;
+import com.jobportal.common.util.JwtClaims;
+import com.jobportal.common.util.JwtVerifier;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -12,15 +18,20 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
+    /** Exchange attribute holding the verified user id; never taken from client headers. */
+    public static final String USER_ID_ATTR = AuthenticationFilter.class.getName() + ".userId";
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final JwtVerifier jwtVerifier;
+    private final MeterRegistry meterRegistry;
 
-    public AuthenticationFilter() {
+    public AuthenticationFilter(JwtVerifier jwtVerifier, MeterRegistry meterRegistry) {
         super(Config.class);
+        this.jwtVerifier = jwtVerifier;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -46,31 +57,41 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
 
             String token = authHeader.substring(7);
 
+            JwtClaims claims;
+            long start = System.nanoTime();
             try {
-                if (!JwtUtil.isTokenValid(token, jwtSecret)) {
-                    return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
-                }
-
-                // Extract user information and add to headers
-                String email = JwtUtil.extractEmail(token, jwtSecret);
-                Long userId = JwtUtil.extractUserId(token, jwtSecret);
-                String role = JwtUtil.extractRole(token, jwtSecret);
-
-                // Add user info to request headers for downstream services
-                ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                        .header("X-User-Email", email)
-                        .header("X-User-Id", String.valueOf(userId))
-                        .header("X-User-Role", role)
-                        .build();
-
-                return chain.filter(exchange.mutate().request(modifiedRequest).build());
-
+                // Single parse for validity and all claims; repeat tokens are served from cache
+                claims = jwtVerifier.verify(token);
+            } catch (JwtException e) {
+                recordAuth(exchange, "invalid", start);
+                return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
             } catch (Exception e) {
+                recordAuth(exchange, "error", start);
                 return onError(exchange, "Authentication failed", HttpStatus.UNAUTHORIZED);
             }
+            recordAuth(exchange, "success", start);
+
+            // Add user info to request headers for downstream services
+            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
+                    .header("X-User-Email", claims.email())
+                    .header("X-User-Id", String.valueOf(claims.userId()))
+                    .header("X-User-Role", claims.role())
+                    .build();
+
+            exchange.getAttributes().put(USER_ID_ATTR, claims.userId());
+            return chain.filter(exchange.mutate().request(modifiedRequest).build());
         };
     }
 
+    private void recordAuth(ServerWebExchange exchange, String outcome, long startNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Timer.builder(MetricNames.GATEWAY_AUTH)
+                .tag("route", route != null ? route.getId() : "unknown")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
     private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus status) {
         ServerHttpResponse response = exchange.getResponse();
         response.setStatusCode(status);
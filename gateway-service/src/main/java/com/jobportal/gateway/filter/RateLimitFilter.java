@@ -0,0 +1,131 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.common.metrics.MetricNames;
+import com.jobportal.gateway.ratelimit.RateLimitDecision;
+import com.jobportal.gateway.ratelimit.RateLimiterBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket limit per route and caller, configured on each route as
+ * {@code RateLimitFilter=<capacity>,<refillPerSecond>[,<keyBy>]}. With {@code keyBy=caller}
+ * (the default) callers are identified by the user id {@link AuthenticationFilter} verified (so
+ * list this filter after it), or by client address on unauthenticated routes. With
+ * {@code keyBy=ip} the client address is always used; list that one before
+ * {@link AuthenticationFilter} so floods of invalid tokens are limited before they are verified.
+ * The client-supplied {@code X-User-Id} header is never used, since anyone could rotate it to
+ * get a fresh bucket per request.
+ */
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final RateLimiterBackend backend;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimiterBackend backend, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.backend = backend;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("capacity", "refillPerSecond", "keyBy");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        boolean byIp = switch (config.getKeyBy()) {
+            case Config.KEY_BY_CALLER -> false;
+            case Config.KEY_BY_IP -> true;
+            default -> throw new IllegalArgumentException("RateLimitFilter keyBy must be caller or ip: " + config.getKeyBy());
+        };
+        return (exchange, chain) -> {
+            String routeId = routeId(exchange);
+            // Pre-auth buckets get their own namespace so they never share a bucket with the caller limit
+            String key = byIp ? routeId + ":pre-auth:" + clientAddress(exchange) : routeId + ":" + caller(exchange);
+            return backend.tryAcquire(key, config.getCapacity(), config.getRefillPerSecond())
+                    .flatMap(decision -> {
+                        ServerHttpResponse response = exchange.getResponse();
+                        response.getHeaders().set("X-RateLimit-Limit", String.valueOf(decision.limit()));
+                        response.getHeaders().set("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+                        if (decision.allowed()) {
+                            return chain.filter(exchange);
+                        }
+                        meterRegistry.counter(MetricNames.GATEWAY_RATE_LIMITED, "route", routeId).increment();
+                        return reject(response, decision);
+                    });
+        };
+    }
+
+    private Mono<Void> reject(ServerHttpResponse response, RateLimitDecision decision) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return response.setComplete();
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private static String caller(ServerWebExchange exchange) {
+        Object userId = exchange.getAttribute(AuthenticationFilter.USER_ID_ATTR);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        return clientAddress(exchange);
+    }
+
+    private static String clientAddress(ServerWebExchange exchange) {
+        InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+        return "ip:" + (address != null ? address.getHostString() : "unknown");
+    }
+
+    public static class Config {
+        static final String KEY_BY_CALLER = "caller";
+        static final String KEY_BY_IP = "ip";
+
+        private int capacity = 100;
+        private double refillPerSecond = 20;
+        private String keyBy = KEY_BY_CALLER;
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        public String getKeyBy() {
+            return keyBy;
+        }
+
+        public void setKeyBy(String keyBy) {
+            this.keyBy = keyBy;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.gateway.cache.CachedResponse;
+import com.jobportal.gateway.cache.ResponseCache;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Serves GET responses of the route from {@link ResponseCache}, with an ETag so clients can
+ * revalidate with {@code If-None-Match} and get a 304. Misses are forwarded without
+ * {@code Accept-Encoding} and stored by {@link ResponseCaptureFilter} as identity bodies;
+ * compression to the client is left to the gateway. Only for routes whose responses do not
+ * depend on the caller; list it after AuthenticationFilter so hits are still authenticated.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET) {
+                return chain.filter(exchange);
+            }
+
+            String query = request.getURI().getRawQuery();
+            String key = request.getURI().getRawPath() + (query != null ? "?" + query : "");
+            CachedResponse cached = responseCache.get(key);
+            if (cached != null) {
+                return writeCached(exchange, cached);
+            }
+
+            exchange.getAttributes().put(ResponseCaptureFilter.CACHE_KEY_ATTR, key);
+            exchange.getAttributes().put(ResponseCaptureFilter.CACHE_GENERATION_ATTR, responseCache.generation());
+            return chain.filter(exchange.mutate().request(withoutAcceptEncoding(request)).build());
+        };
+    }
+
+    // Asks the backend for an identity body; headers are copied so the client's Accept-Encoding
+    // still drives server.compression on the way out
+    private static ServerHttpRequest withoutAcceptEncoding(ServerHttpRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(request.getHeaders());
+        headers.remove(HttpHeaders.ACCEPT_ENCODING);
+        return new ServerHttpRequestDecorator(request) {
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    private static Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        response.getHeaders().set("X-Cache", "HIT");
+        if (matches(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(cached.contentType());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    static boolean matches(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains(etag) || ifNoneMatch.contains("W/" + etag) || ifNoneMatch.contains("*");
+    }
+
+    public static class Config {
+        // Configuration properties if needed
+    }
+}
@@ -0,0 +1,73 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.gateway.cache.CachedResponse;
+import com.jobportal.gateway.cache.ResponseCache;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stores the backend response of a {@link ResponseCacheFilter} miss. Has to wrap the
+ * response before {@link NettyWriteResponseFilter} captures it, which is earlier than any
+ * route filter runs, so it decorates every exchange and only buffers the body when the
+ * route filter has marked the exchange with a cache key.
+ */
+@Component
+public class ResponseCaptureFilter implements GlobalFilter, Ordered {
+    static final String CACHE_KEY_ATTR = ResponseCaptureFilter.class.getName() + ".key";
+    static final String CACHE_GENERATION_ATTR = ResponseCaptureFilter.class.getName() + ".generation";
+
+    private final ResponseCache responseCache;
+
+    public ResponseCaptureFilter(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpResponseDecorator capturing = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                String key = exchange.getAttribute(CACHE_KEY_ATTR);
+                // Entries are replayed without Content-Encoding, so only identity bodies are stored
+                if (key == null || getStatusCode() != HttpStatus.OK
+                        || getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                    return super.writeWith(body);
+                }
+                long generation = exchange.getRequiredAttribute(CACHE_GENERATION_ATTR);
+                return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+
+                    CachedResponse stored = responseCache.put(key, bytes, getHeaders().getContentType(), generation);
+                    getHeaders().setETag(stored.etag());
+                    getHeaders().set("X-Cache", "MISS");
+                    if (ResponseCacheFilter.matches(exchange.getRequest(), stored.etag())) {
+                        setStatusCode(HttpStatus.NOT_MODIFIED);
+                        getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                        return getDelegate().setComplete();
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        };
+        return chain.filter(exchange.mutate().response(capturing).build());
+    }
+}
@@ -0,0 +1,30 @@
+package com.jobportal.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Buckets held in a bounded Caffeine map. Idle keys expire after {@code idleExpiry} and the
+ * least recently used ones are evicted beyond {@code maxKeys}; an evicted bucket simply
+ * comes back full, so the expiry should exceed the time a bucket takes to refill.
+ */
+public class InMemoryRateLimiterBackend implements RateLimiterBackend {
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryRateLimiterBackend(long maxKeys, Duration idleExpiry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryAcquire(String key, int capacity, double refillPerSecond) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond, now));
+        return Mono.just(bucket.tryAcquire(now));
+    }
+}
@@ -0,0 +1,12 @@
+package com.jobportal.gateway.ratelimit;
+
+public record RateLimitDecision(boolean allowed, int limit, long remaining, long retryAfterNanos) {
+
+    static RateLimitDecision allowed(int limit, long remaining) {
+        return new RateLimitDecision(true, limit, remaining, 0);
+    }
+
+    static RateLimitDecision rejected(int limit, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, 0, retryAfterNanos);
+    }
+}
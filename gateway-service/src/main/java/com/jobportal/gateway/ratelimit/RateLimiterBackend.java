@@ -0,0 +1,18 @@
+package com.jobportal.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Storage for token buckets. The in-memory implementation limits per gateway instance;
+ * a shared store (e.g. Redis) can be plugged in behind the same interface to enforce
+ * limits across instances.
+ */
+public interface RateLimiterBackend {
+    /**
+     * Takes one token from the bucket for {@code key}, creating it full if absent.
+     *
+     * @param capacity        bucket size, i.e. the allowed burst
+     * @param refillPerSecond tokens added per second
+     */
+    Mono<RateLimitDecision> tryAcquire(String key, int capacity, double refillPerSecond);
+}
@@ -0,0 +1,35 @@
+package com.jobportal.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count it keeps the time at which the bucket
+ * will be full again (GCRA), so the whole state is one long updated with CAS.
+ */
+final class TokenBucket {
+    private final int capacity;
+    private final long intervalNanos; // time to refill one token
+    private final long burstNanos;    // time to refill the whole bucket
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    RateLimitDecision tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                return RateLimitDecision.rejected(capacity, debt - burstNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return RateLimitDecision.allowed(capacity, (burstNanos - debt) / intervalNanos);
+            }
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.jobportal.gateway;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"eureka.client.enabled=false",
+		"jwt.secret=test-secret-key-that-is-at-least-32-bytes-long",
+		"events.secret=test-events-secret"
+})
 class GatewayServiceApplicationTests {
 
 	@Test
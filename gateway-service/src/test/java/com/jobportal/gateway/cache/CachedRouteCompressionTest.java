@@ -0,0 +1,137 @@
+package com.jobportal.gateway.cache;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Sends gzip and identity requests through the cached job-service-reads route against a stub job-service
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "jwt.secret=" + CachedRouteCompressionTest.SECRET,
+        "events.secret=test-events-secret"
+})
+class CachedRouteCompressionTest {
+    static final String SECRET = "test-secret-key-that-is-at-least-32-bytes-long";
+    private static final String BODY = "{\"success\":true,\"data\":\"" + "x".repeat(4096) + "\"}";
+    private static final AtomicReference<String> backendAcceptEncoding = new AtomicReference<>();
+    private static final HttpServer backend = startBackend();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void jobService(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.job-service[0].uri",
+                () -> "http://localhost:" + backend.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop(0);
+    }
+
+    @Test
+    void cachedBodyIsIdentityAndCompressedPerClient() throws IOException, InterruptedException {
+        String token = token();
+
+        HttpResponse<byte[]> miss = get(token, "gzip");
+        assertThat(miss.headers().firstValue("X-Cache")).contains("MISS");
+        assertThat(backendAcceptEncoding.get()).isNull();
+        assertThat(miss.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).contains("gzip");
+        assertThat(gunzip(miss.body())).isEqualTo(BODY);
+
+        HttpResponse<byte[]> identityHit = get(token, null);
+        assertThat(identityHit.headers().firstValue("X-Cache")).contains("HIT");
+        assertThat(identityHit.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        assertThat(new String(identityHit.body(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+
+        HttpResponse<byte[]> gzipHit = get(token, "gzip");
+        assertThat(gzipHit.headers().firstValue("X-Cache")).contains("HIT");
+        assertThat(gzipHit.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).contains("gzip");
+        assertThat(gunzip(gzipHit.body())).isEqualTo(BODY);
+        // The ETag identifies the representation before transfer compression
+        assertThat(gzipHit.headers().firstValue(HttpHeaders.ETAG)).isEqualTo(miss.headers().firstValue(HttpHeaders.ETAG));
+    }
+
+    private HttpResponse<byte[]> get(String token, String acceptEncoding) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/jobs/search?keyword=java"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response;
+    }
+
+    private static String token() {
+        return Jwts.builder()
+                .subject("seeker@example.com")
+                .claim("userId", 1)
+                .claim("role", "JOBSEEKER")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    // Stub job-service that compresses whenever the request allows it, like server.compression does
+    private static HttpServer startBackend() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/jobs", exchange -> {
+                String acceptEncoding = exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+                backendAcceptEncoding.set(acceptEncoding);
+                byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                        gzip.write(body);
+                    }
+                    body = compressed.toByteArray();
+                    exchange.getResponseHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                }
+                exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
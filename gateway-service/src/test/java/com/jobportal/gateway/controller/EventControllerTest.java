@@ -0,0 +1,97 @@
+package com.jobportal.gateway.controller;
+
+import com.jobportal.common.event.EventController;
+import com.jobportal.common.event.InMemoryEventBus;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// /internal/events needs the shared secret, and no /internal path is routed to the services
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "jwt.secret=test-secret-key-that-is-at-least-32-bytes-long",
+        "events.secret=" + EventControllerTest.SECRET
+})
+class EventControllerTest {
+    static final String SECRET = "test-events-secret";
+    private static final String EVENTS = "[{\"type\":\"JobDeleted\",\"aggregateId\":1}]";
+    private static final AtomicInteger backendHits = new AtomicInteger();
+    private static final HttpServer backend = startBackend();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void applicationService(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.discovery.client.simple.instances.application-service[0].uri",
+                () -> "http://localhost:" + backend.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop(0);
+    }
+
+    @Test
+    void eventsWithoutSecretAreRejected() throws Exception {
+        assertThat(post("/internal/events", null).statusCode()).isEqualTo(403);
+        assertThat(post("/internal/events", "wrong").statusCode()).isEqualTo(403);
+        assertThat(post("/internal/events", SECRET).statusCode()).isEqualTo(202);
+    }
+
+    @Test
+    void missingSecretFailsStartupWithAClearMessage() {
+        assertThatThrownBy(() -> new EventController(new InMemoryEventBus(), ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("EVENTS_SECRET");
+    }
+
+    @Test
+    void internalPathsAreNotRouted() throws Exception {
+        assertThat(post("/application-service/internal/events", SECRET).statusCode()).isEqualTo(404);
+        assertThat(post("/application-service/internal/stats/rebuild", null).statusCode()).isEqualTo(404);
+        assertThat(backendHits.get()).isZero();
+    }
+
+    private HttpResponse<String> post(String path, String secret) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(EVENTS));
+        if (secret != null) {
+            request.header("X-Events-Secret", secret);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpServer startBackend() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                backendHits.incrementAndGet();
+                exchange.sendResponseHeaders(202, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.jobportal.gateway.filter;
+
+import com.jobportal.gateway.ratelimit.RateLimitDecision;
+import com.jobportal.gateway.ratelimit.RateLimiterBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+    private final RateLimiterBackend backend = mock(RateLimiterBackend.class);
+    private final RateLimitFilter factory = new RateLimitFilter(backend, new SimpleMeterRegistry());
+    private final GatewayFilterChain chain = mock(GatewayFilterChain.class);
+    private final List<String> keys = new ArrayList<>();
+    private RateLimitDecision decision = new RateLimitDecision(true, 100, 99, 0);
+
+    @BeforeEach
+    void setUp() {
+        when(backend.tryAcquire(any(), anyInt(), anyDouble())).thenAnswer(invocation -> {
+            keys.add(invocation.getArgument(0));
+            return Mono.just(decision);
+        });
+        when(chain.filter(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void callerLimitUsesTheVerifiedUserId() {
+        MockServerWebExchange exchange = exchange();
+        exchange.getAttributes().put(AuthenticationFilter.USER_ID_ATTR, 42L);
+
+        filter("caller").filter(exchange, chain).block();
+
+        assertThat(keys).containsExactly("job-service:user:42");
+    }
+
+    @Test
+    void callerLimitFallsBackToTheAddressAndIgnoresClientSentUserIds() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/login")
+                .header("X-User-Id", "42")
+                .remoteAddress(new InetSocketAddress("203.0.113.7", 5000)));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+
+        filter("caller").filter(exchange, chain).block();
+
+        assertThat(keys).containsExactly("job-service:ip:203.0.113.7");
+    }
+
+    @Test
+    void addressLimitIgnoresTheUserAndHasItsOwnBuckets() {
+        MockServerWebExchange exchange = exchange();
+        exchange.getAttributes().put(AuthenticationFilter.USER_ID_ATTR, 42L);
+
+        filter("ip").filter(exchange, chain).block();
+
+        assertThat(keys).containsExactly("job-service:pre-auth:ip:203.0.113.7");
+    }
+
+    @Test
+    void rejectedRequestsGet429WithRetryAfterAndStopHere() {
+        decision = new RateLimitDecision(false, 100, 0, 1_500_000_000L);
+        MockServerWebExchange exchange = exchange();
+
+        filter("ip").filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(exchange.getResponse().getHeaders().getFirst("Retry-After")).isEqualTo("2");
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-RateLimit-Remaining")).isEqualTo("0");
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    void unknownKeyByIsAConfigurationError() {
+        assertThatThrownBy(() -> filter("header")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private GatewayFilter filter(String keyBy) {
+        RateLimitFilter.Config config = new RateLimitFilter.Config();
+        config.setKeyBy(keyBy);
+        return factory.apply(config);
+    }
+
+    private static MockServerWebExchange exchange() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/jobs/1")
+                .remoteAddress(new InetSocketAddress("203.0.113.7", 5000)));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route());
+        return exchange;
+    }
+
+    private static Route route() {
+        return Route.async().id("job-service").uri("http://localhost").predicate(exchange -> true).build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.jobportal.gateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Every authenticated route limits by client address before verifying the token, and by user after it
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "jwt.secret=test-secret-key-that-is-at-least-32-bytes-long",
+        "events.secret=test-events-secret"
+})
+class RateLimitRoutesTest {
+    @Autowired
+    private GatewayProperties gatewayProperties;
+
+    @Test
+    void authenticatedRoutesAreLimitedByAddressBeforeAuthentication() {
+        List<RouteDefinition> authenticated = gatewayProperties.getRoutes().stream()
+                .filter(route -> names(route).contains("AuthenticationFilter"))
+                .toList();
+        assertThat(authenticated).isNotEmpty();
+
+        for (RouteDefinition route : authenticated) {
+            List<FilterDefinition> filters = route.getFilters();
+            int authentication = names(route).indexOf("AuthenticationFilter");
+            assertThat(filters.subList(0, authentication))
+                    .as(route.getId())
+                    .anyMatch(filter -> filter.getName().equals("RateLimitFilter")
+                            && filter.getArgs().containsValue("ip"));
+            assertThat(filters.subList(authentication + 1, filters.size()))
+                    .as(route.getId())
+                    .anyMatch(filter -> filter.getName().equals("RateLimitFilter")
+                            && !filter.getArgs().containsValue("ip"));
+        }
+    }
+
+    private static List<String> names(RouteDefinition route) {
+        return route.getFilters().stream().map(FilterDefinition::getName).toList();
+    }
+}
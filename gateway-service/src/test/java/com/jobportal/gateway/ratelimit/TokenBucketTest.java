@@ -0,0 +1,87 @@
+package com.jobportal.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long T0 = 1_000 * SECOND;
+
+    @Test
+    void allowsABurstOfCapacityThenRejectsUntilATokenRefills() {
+        TokenBucket bucket = new TokenBucket(3, 1, T0);
+
+        assertThat(bucket.tryAcquire(T0)).isEqualTo(RateLimitDecision.allowed(3, 2));
+        assertThat(bucket.tryAcquire(T0)).isEqualTo(RateLimitDecision.allowed(3, 1));
+        assertThat(bucket.tryAcquire(T0)).isEqualTo(RateLimitDecision.allowed(3, 0));
+        assertThat(bucket.tryAcquire(T0)).isEqualTo(RateLimitDecision.rejected(3, SECOND));
+        // Half way to the next token, only the remaining half is left to wait
+        assertThat(bucket.tryAcquire(T0 + SECOND / 2)).isEqualTo(RateLimitDecision.rejected(3, SECOND / 2));
+
+        assertThat(bucket.tryAcquire(T0 + SECOND)).isEqualTo(RateLimitDecision.allowed(3, 0));
+    }
+
+    @Test
+    void rejectionsDoNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(1, 1, T0);
+        bucket.tryAcquire(T0);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryAcquire(T0).allowed()).isFalse();
+        }
+        assertThat(bucket.tryAcquire(T0 + SECOND).allowed()).isTrue();
+    }
+
+    @Test
+    void idleTimeRefillsUpToCapacityOnly() {
+        TokenBucket bucket = new TokenBucket(5, 2, T0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(T0);
+        }
+
+        // Two tokens per second: one second back gives two, an hour back gives a full bucket, not more
+        assertThat(bucket.tryAcquire(T0 + SECOND)).isEqualTo(RateLimitDecision.allowed(5, 1));
+        assertThat(bucket.tryAcquire(T0 + 3600 * SECOND)).isEqualTo(RateLimitDecision.allowed(5, 4));
+    }
+
+    @Test
+    void fractionalRatesRefillSlowly() {
+        TokenBucket bucket = new TokenBucket(1, 0.1, T0);
+        bucket.tryAcquire(T0);
+
+        assertThat(bucket.tryAcquire(T0 + 9 * SECOND)).isEqualTo(RateLimitDecision.rejected(1, SECOND));
+        assertThat(bucket.tryAcquire(T0 + 10 * SECOND).allowed()).isTrue();
+    }
+
+    @Test
+    void concurrentCallersNeverGetMoreThanTheBurst() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, 1, T0);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (bucket.tryAcquire(T0).allowed()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed).hasValue(100);
+    }
+}
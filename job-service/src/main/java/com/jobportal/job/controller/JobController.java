@@ -1,22 +1,35 @@
 package com.jobportal.job.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.CursorPage;
 import com.jobportal.job.dto.JobRequest;
 import com.jobportal.job.dto.JobResponse;
+import com.jobportal.job.service.JobBulkImporter;
 import com.jobportal.job.service.JobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/jobs")
 @RequiredArgsConstructor
 public class JobController {
+    private static final int FLUSH_EVERY = 100;
+
     private final JobService jobService;
+    private final JobBulkImporter bulkImporter;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ApiResponse<Void>> createJob(
@@ -26,11 +39,61 @@ public class JobController {
                 .body(jobService.createJob(request, userId));
     }
 
+    // Body is a JSON array or NDJSON of JobRequest, read incrementally; one BulkJobResult line per item
+    @PostMapping(value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkCreateJobs(
+            InputStream body,
+            @RequestHeader("X-User-Id") int userId) {
+        StreamingResponseBody response = out -> {
+            try (MappingIterator<JobRequest> requests = objectMapper.readerFor(JobRequest.class).readValues(body)) {
+                bulkImporter.importJobs(requests, userId, result -> {
+                    try {
+                        out.write(objectMapper.writeValueAsBytes(result));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(response);
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<List<JobResponse>>> getAllJobs() {
         return ResponseEntity.ok(jobService.getAllJobs());
     }
 
+    // Chosen with "Accept: application/x-ndjson"; one JobResponse per line, written as rows are read
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllJobs() {
+        StreamingResponseBody body = out -> {
+            int[] written = {0};
+            jobService.streamAllJobs(job -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(job));
+                    out.write('\n');
+                    // Flush the first row right away, then in chunks
+                    if (written[0]++ % FLUSH_EVERY == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<List<JobResponse>>> getJobsByIds(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(jobService.getJobsByIds(ids));
+    }
+
     @GetMapping("/{jobId}")
     public ResponseEntity<ApiResponse<JobResponse>> getJobById(@PathVariable int jobId) {
         return ResponseEntity.ok(jobService.getJobById(jobId));
@@ -49,11 +112,23 @@ public class JobController {
             @RequestParam(required = false) String location,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "5") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false) String sortBy,
             @RequestParam(defaultValue = "desc") String direction) {
         return ResponseEntity.ok(jobService.searchJobs(keyword, location, page, size, sortBy, direction));
     }
 
+    // Keyset mode: selected by the presence of the cursor parameter (empty for the first page)
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<JobResponse>>> searchJobsByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(jobService.searchJobsByCursor(keyword, location, cursor, size, sortBy, direction));
+    }
+
     @GetMapping("/my-jobs")
     public ResponseEntity<ApiResponse<List<JobResponse>>> getMyJobs(
             @RequestHeader("X-User-Id") int userId) {
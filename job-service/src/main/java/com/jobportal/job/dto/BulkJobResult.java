@@ -0,0 +1,17 @@
+package com.jobportal.job.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One line of the POST /api/jobs/bulk response; index is the item's position in the request
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkJobResult {
+    private int index;
+    private String title;
+    private String status; // CREATED, DUPLICATE, INVALID or FAILED
+    private Integer jobId;
+    private String message;
+}
@@ -1,19 +1,48 @@
 package com.jobportal.job.repository;
 
 import com.jobportal.job.model.Job;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface JobRepository extends JpaRepository<Job, Integer> {
+    // Served from the query and entity caches when the l2cache profile is active
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Job> findJobById(int id);
     List<Job> findByPostedBy(int userId);
-    Page<Job> findByTitleContainingIgnoreCase(String keyword, Pageable pageable);
-    Page<Job> findByLocationContainingIgnoreCase(String location, Pageable pageable);
-    Page<Job> findByTitleContainingIgnoreCaseAndLocationContainingIgnoreCase(
-            String keyword, String location, Pageable pageable);
     boolean existsByTitle(String title);
+
+    @Query("select j.title from Job j where j.title in :titles")
+    List<String> findExistingTitles(Collection<String> titles);
+
+    // Drops search index hits for jobs deleted since the index last saw them
+    @Query("select j.id from Job j where j.id in :ids")
+    Set<Integer> findExistingIds(Collection<Integer> ids);
+
+    // Forward-only cursor read for exports; MySQL honours the fetch size with useCursorFetch=true
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Job> streamAllBy();
+
+    // Keyset scan in id order for the search index rebuild
+    List<Job> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    // Keyset pagination on (createdAt, id); List return types skip the count query
+    List<Job> findPageBy(Pageable pageable);
+
+    @Query("select j from Job j where j.createdAt < :createdAt or (j.createdAt = :createdAt and j.id < :id)")
+    List<Job> findPageBefore(LocalDateTime createdAt, int id, Pageable pageable);
+
+    @Query("select j from Job j where j.createdAt > :createdAt or (j.createdAt = :createdAt and j.id > :id)")
+    List<Job> findPageAfter(LocalDateTime createdAt, int id, Pageable pageable);
 }
@@ -0,0 +1,285 @@
+package com.jobportal.job.search;
+
+import com.jobportal.job.model.Job;
+import com.jobportal.job.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over title, description, companyName and location.
+ * Keyword queries are ranked by field-weighted TF-IDF, and the last query term
+ * matches as a prefix so partially typed words still hit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchIndex {
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float COMPANY_WEIGHT = 2.0f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final JobRepository jobRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Postings postings = new Postings();
+    // Changes made while a rebuild is scanning the table, replayed onto the new postings
+    private List<Job> pendingIndex;
+    private List<Integer> pendingRemove;
+
+    public record Hit(int jobId, double score, LocalDateTime createdAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        rebuild();
+    }
+
+    // Periodic rebuild keeps replicas convergent with changes made on other instances
+    @Scheduled(fixedDelayString = "${search.index.rebuild-interval-ms:300000}",
+            initialDelayString = "${search.index.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingIndex = new ArrayList<>();
+            pendingRemove = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Postings fresh = new Postings();
+        List<Job> batch;
+        int lastId = 0;
+        do {
+            batch = jobRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            batch.forEach(fresh::add);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            pendingIndex.forEach(fresh::add);
+            pendingRemove.forEach(fresh::remove);
+            pendingIndex = null;
+            pendingRemove = null;
+            postings = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job search index rebuilt with {} documents", fresh.documents.size());
+    }
+
+    /** Adds or replaces {@code job}; inside a transaction this happens once it commits. */
+    public void index(Job job) {
+        afterCommit(() -> indexNow(job));
+    }
+
+    /** Drops the job; inside a transaction this happens once it commits. */
+    public void remove(int jobId) {
+        afterCommit(() -> removeNow(jobId));
+    }
+
+    private void indexNow(Job job) {
+        lock.writeLock().lock();
+        try {
+            postings.add(job);
+            if (pendingIndex != null) {
+                pendingIndex.add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeNow(int jobId) {
+        lock.writeLock().lock();
+        try {
+            postings.remove(jobId);
+            if (pendingRemove != null) {
+                pendingRemove.add(jobId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // A rolled-back change never reaches the index
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Returns every job matching all keyword terms (in any field) and all location terms
+     * (in the location field). With {@code byRelevance} and a keyword the hits are ordered by
+     * score, best first; otherwise by creation time in the requested direction.
+     */
+    public List<Hit> search(String keyword, String location, boolean byRelevance, boolean newestFirst) {
+        return search(keyword, location, byRelevance, newestFirst, null);
+    }
+
+    /** Same as {@link #search(String, String, boolean, boolean)} but only returns hits ordered after {@code after}. */
+    public List<Hit> search(String keyword, String location, boolean byRelevance, boolean newestFirst, Hit after) {
+        List<String> keywordTerms = tokenize(keyword);
+        List<String> locationTerms = tokenize(location);
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Double> scores = keywordTerms.isEmpty()
+                    ? null : postings.score(postings.terms, keywordTerms);
+            Map<Integer, Double> locationMatches = locationTerms.isEmpty()
+                    ? null : postings.score(postings.locationTerms, locationTerms);
+
+            Map<Integer, Double> matches;
+            if (scores != null && locationMatches != null) {
+                scores.keySet().retainAll(locationMatches.keySet());
+                matches = scores;
+            } else {
+                matches = scores != null ? scores : locationMatches;
+            }
+            if (matches == null) {
+                return List.of();
+            }
+
+            List<Hit> hits = new ArrayList<>(matches.size());
+            matches.forEach((jobId, score) ->
+                    hits.add(new Hit(jobId, score, postings.documents.get(jobId).createdAt())));
+
+            boolean ranked = byRelevance && scores != null;
+            Comparator<Hit> byCreatedAt = Comparator.comparing(Hit::createdAt,
+                    Comparator.nullsFirst(Comparator.naturalOrder())).thenComparingInt(Hit::jobId);
+            if (newestFirst || ranked) {
+                byCreatedAt = byCreatedAt.reversed();
+            }
+            Comparator<Hit> order = ranked
+                    ? Comparator.comparingDouble(Hit::score).reversed().thenComparing(byCreatedAt)
+                    : byCreatedAt;
+            hits.sort(order);
+            if (after == null) {
+                return hits;
+            }
+            int position = Collections.binarySearch(hits, after, order);
+            return hits.subList(position >= 0 ? position + 1 : -position - 1, hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{Nd}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Document(Set<String> terms, Set<String> locationTerms, LocalDateTime createdAt) {
+    }
+
+    /** Not thread-safe on its own; guarded by the enclosing index's lock. */
+    private static class Postings {
+        // term -> (jobId -> field-weighted term frequency)
+        private final NavigableMap<String, Map<Integer, Float>> terms = new TreeMap<>();
+        private final NavigableMap<String, Map<Integer, Float>> locationTerms = new TreeMap<>();
+        private final Map<Integer, Document> documents = new HashMap<>();
+
+        void add(Job job) {
+            remove(job.getId());
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, job.getTitle(), TITLE_WEIGHT);
+            addField(weights, job.getCompanyName(), COMPANY_WEIGHT);
+            addField(weights, job.getLocation(), LOCATION_WEIGHT);
+            addField(weights, job.getDescription(), DESCRIPTION_WEIGHT);
+            Map<String, Float> locationWeights = new HashMap<>();
+            addField(locationWeights, job.getLocation(), 1.0f);
+
+            weights.forEach((term, weight) ->
+                    terms.computeIfAbsent(term, key -> new HashMap<>()).put(job.getId(), weight));
+            locationWeights.forEach((term, weight) ->
+                    locationTerms.computeIfAbsent(term, key -> new HashMap<>()).put(job.getId(), weight));
+            documents.put(job.getId(),
+                    new Document(weights.keySet(), locationWeights.keySet(), job.getCreatedAt()));
+        }
+
+        void remove(int jobId) {
+            Document document = documents.remove(jobId);
+            if (document != null) {
+                unlink(terms, document.terms(), jobId);
+                unlink(locationTerms, document.locationTerms(), jobId);
+            }
+        }
+
+        /** Sums TF-IDF per document over all query terms; documents missing any term are dropped. */
+        Map<Integer, Double> score(NavigableMap<String, Map<Integer, Float>> index, List<String> queryTerms) {
+            Map<Integer, Double> scores = null;
+            for (int i = 0; i < queryTerms.size(); i++) {
+                String term = queryTerms.get(i);
+                boolean prefix = i == queryTerms.size() - 1;
+                Map<Integer, Double> termScores = new HashMap<>();
+                NavigableMap<String, Map<Integer, Float>> matching = prefix
+                        ? index.subMap(term, true, term + Character.MAX_VALUE, false)
+                        : index.subMap(term, true, term, true);
+                for (Map<Integer, Float> posting : matching.values()) {
+                    double idf = Math.log(1.0 + (double) documents.size() / posting.size());
+                    posting.forEach((jobId, weight) -> termScores.merge(jobId, weight * idf, Math::max));
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((jobId, score) -> score + termScores.get(jobId));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            return scores;
+        }
+
+        private static void addField(Map<String, Float> weights, String text, float weight) {
+            for (String token : tokenize(text)) {
+                weights.merge(token, weight, Float::sum);
+            }
+        }
+
+        private static void unlink(Map<String, Map<Integer, Float>> index, Set<String> docTerms, int jobId) {
+            for (String term : docTerms) {
+                Map<Integer, Float> posting = index.get(term);
+                if (posting != null) {
+                    posting.remove(jobId);
+                    if (posting.isEmpty()) {
+                        index.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
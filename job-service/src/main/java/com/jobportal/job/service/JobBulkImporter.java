@@ -0,0 +1,203 @@
+package com.jobportal.job.service;
+
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventTypes;
+import com.jobportal.common.outbox.Outbox;
+import com.jobportal.job.dto.BulkJobResult;
+import com.jobportal.job.dto.JobRequest;
+import com.jobportal.job.model.Job;
+import com.jobportal.job.repository.JobRepository;
+import com.jobportal.job.search.JobSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports jobs in chunks of {@code jobs.bulk.batch-size}. Each chunk costs one query to find
+ * titles that already exist and one JDBC batch insert, committed together with its outbox
+ * events. Job ids stay AUTO_INCREMENT: with {@code rewriteBatchedStatements=true} the batch
+ * becomes a multi-row INSERT and the generated keys come back for the whole batch, which
+ * Hibernate cannot do for IDENTITY entities.
+ */
+@Slf4j
+@Service
+public class JobBulkImporter {
+    private static final String INSERT_SQL = "insert into job "
+            + "(title, description, location, company_name, salary, job_type, posted_by, created_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Outbox outbox;
+    private final JobSearchIndex searchIndex;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int batchSize;
+
+    public JobBulkImporter(JobRepository jobRepository,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           Outbox outbox,
+                           JobSearchIndex searchIndex,
+                           EntityManagerFactory entityManagerFactory,
+                           @Value("${jobs.bulk.batch-size:500}") int batchSize) {
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.outbox = outbox;
+        this.searchIndex = searchIndex;
+        this.entityManagerFactory = entityManagerFactory;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads requests lazily from {@code requests} and reports one result per item, in
+     * request order, to {@code results} as each chunk completes.
+     */
+    public void importJobs(Iterator<JobRequest> requests, int userId, Consumer<BulkJobResult> results) {
+        // Titles are compared case-insensitively, like the unique index on job.title
+        Set<String> seenTitles = new HashSet<>();
+        List<JobRequest> chunk = new ArrayList<>(batchSize);
+        int index = 0;
+        while (requests.hasNext()) {
+            chunk.add(requests.next());
+            if (chunk.size() == batchSize) {
+                importChunk(chunk, index, userId, seenTitles, results);
+                index += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, index, userId, seenTitles, results);
+        }
+    }
+
+    private void importChunk(List<JobRequest> chunk, int firstIndex, int userId,
+                             Set<String> seenTitles, Consumer<BulkJobResult> results) {
+        BulkJobResult[] outcome = new BulkJobResult[chunk.size()];
+        Set<String> existing = jobRepository.findExistingTitles(chunk.stream()
+                        .map(JobRequest::getTitle)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .stream()
+                .map(JobBulkImporter::normalize)
+                .collect(Collectors.toSet());
+
+        List<Job> toInsert = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < chunk.size(); i++) {
+            JobRequest request = chunk.get(i);
+            int index = firstIndex + i;
+            if (!isComplete(request)) {
+                outcome[i] = new BulkJobResult(index, request.getTitle(), "INVALID", null, "Missing required fields");
+            } else if (existing.contains(normalize(request.getTitle()))
+                    || !seenTitles.add(normalize(request.getTitle()))) {
+                outcome[i] = new BulkJobResult(index, request.getTitle(), "DUPLICATE", null, "Job already exists");
+            } else {
+                toInsert.add(toJob(request, userId, now));
+                positions.add(i);
+            }
+        }
+
+        if (!toInsert.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    insertBatch(toInsert);
+                    outbox.appendAll(toInsert.stream()
+                            .map(job -> DomainEvent.of(EventTypes.JOB_CREATED, job.getId()))
+                            .toList());
+                });
+                toInsert.forEach(searchIndex::index);
+                // JDBC inserts bypass Hibernate, so cached "no such job" query results must go
+                entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+                for (int k = 0; k < toInsert.size(); k++) {
+                    Job job = toInsert.get(k);
+                    int i = positions.get(k);
+                    outcome[i] = new BulkJobResult(firstIndex + i, job.getTitle(), "CREATED", job.getId(), null);
+                }
+            } catch (DataAccessException e) {
+                // e.g. a concurrent insert of the same title; the whole chunk was rolled back
+                log.warn("Bulk insert of {} jobs failed: {}", toInsert.size(), e.getMessage());
+                for (int i : positions) {
+                    outcome[i] = new BulkJobResult(firstIndex + i, chunk.get(i).getTitle(), "FAILED", null,
+                            "Insert failed, retry the item");
+                }
+            }
+        }
+
+        for (BulkJobResult result : outcome) {
+            results.accept(result);
+        }
+    }
+
+    private void insertBatch(List<Job> jobs) {
+        jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Job job : jobs) {
+                    statement.setString(1, job.getTitle());
+                    statement.setString(2, job.getDescription());
+                    statement.setString(3, job.getLocation());
+                    statement.setString(4, job.getCompanyName());
+                    statement.setString(5, job.getSalary());
+                    statement.setString(6, job.getJobType());
+                    statement.setInt(7, job.getPostedBy());
+                    statement.setTimestamp(8, Timestamp.valueOf(job.getCreatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Job job : jobs) {
+                        keys.next();
+                        job.setId(keys.getInt(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private static Job toJob(JobRequest request, int userId, LocalDateTime createdAt) {
+        Job job = new Job();
+        job.setTitle(request.getTitle());
+        job.setDescription(request.getDescription());
+        job.setLocation(request.getLocation());
+        job.setSalary(request.getSalary());
+        job.setCompanyName(request.getCompanyName());
+        job.setJobType(request.getJobType());
+        job.setPostedBy(userId);
+        job.setCreatedAt(createdAt);
+        return job;
+    }
+
+    private static boolean isComplete(JobRequest request) {
+        return request.getTitle() != null && request.getDescription() != null
+                && request.getLocation() != null && request.getCompanyName() != null
+                && request.getSalary() != null && request.getJobType() != null;
+    }
+
+    private static String normalize(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+}
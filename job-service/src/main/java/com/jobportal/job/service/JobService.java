@@ -1,28 +1,53 @@
 package com.jobportal.job.service;
 
 import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.dto.CursorPage;
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventTypes;
 import com.jobportal.common.exception.ResourceNotFoundException;
+import com.jobportal.common.outbox.Outbox;
+import com.jobportal.common.util.CursorCodec;
 import com.jobportal.job.dto.JobRequest;
 import com.jobportal.job.dto.JobResponse;
 import com.jobportal.job.feign.UserServiceClient;
 import com.jobportal.job.model.Job;
 import com.jobportal.job.repository.JobRepository;
+import com.jobportal.job.search.JobSearchIndex;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class JobService {
+    private static final String RELEVANCE = "relevance";
+
     private final JobRepository jobRepository;
+    private final EntityManager entityManager;
     private final UserServiceClient userServiceClient;
+    private final Outbox outbox;
+    private final JobSearchIndex searchIndex;
 
+    @Transactional
     public ApiResponse<Void> createJob(JobRequest request, int userId) {
         if (jobRepository.existsByTitle(request.getTitle())) {
             throw new RuntimeException("Job already exists");
@@ -37,11 +62,14 @@ public class JobService {
         job.setJobType(request.getJobType());
         job.setPostedBy(userId);
         job.setCreatedAt(LocalDateTime.now());
-        jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        outbox.append(DomainEvent.of(EventTypes.JOB_CREATED, saved.getId()));
+        searchIndex.index(saved);
 
         return ApiResponse.success("Job created successfully", null);
     }
 
+    @Transactional(readOnly = true)
     public ApiResponse<List<JobResponse>> getAllJobs() {
         List<JobResponse> jobs = jobRepository.findAll()
                 .stream()
@@ -50,12 +78,40 @@ public class JobService {
         return ApiResponse.success("Jobs fetched successfully", jobs);
     }
 
+    /**
+     * Streams every job to {@code sink} straight from a database cursor. Entities are
+     * detached once mapped, so memory use does not grow with the table size.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllJobs(Consumer<JobResponse> sink) {
+        try (Stream<Job> jobs = jobRepository.streamAllBy()) {
+            jobs.forEach(job -> {
+                sink.accept(mapToResponse(job));
+                entityManager.detach(job);
+            });
+        }
+    }
+
     public ApiResponse<JobResponse> getJobById(int jobId) {
         Job job = jobRepository.findJobById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
         return ApiResponse.success("Job fetched", mapToResponse(job));
     }
 
+    @Transactional(readOnly = true)
+    public ApiResponse<List<JobResponse>> getJobsByIds(List<Integer> ids) {
+        // multiLoad checks the second-level cache per id before querying the rest
+        List<JobResponse> jobs = entityManager.unwrap(Session.class)
+                .byMultipleIds(Job.class)
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .toList();
+        return ApiResponse.success("Jobs fetched successfully", jobs);
+    }
+
+    @Transactional
     public ApiResponse<Void> deleteJob(int jobId, int userId) {
         Job job = jobRepository.findJobById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
@@ -65,34 +121,107 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        outbox.append(DomainEvent.of(EventTypes.JOB_DELETED, jobId));
+        searchIndex.remove(jobId);
         return ApiResponse.success("Job deleted successfully", null);
     }
 
+    @Transactional(readOnly = true)
     public ApiResponse<Page<JobResponse>> searchJobs(String keyword, String location,
                                                      int page, int size,
                                                      String sortBy, String direction) {
+        String sortField = sortField(keyword, sortBy);
         Sort.Direction sortDirection = direction.equalsIgnoreCase("desc")
                 ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Sort sort = Sort.by(sortDirection, sortBy);
+        Sort sort = Sort.by(sortDirection, sortField);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<JobResponse> jobs;
-        if (keyword != null && location != null) {
-            jobs = jobRepository.findByTitleContainingIgnoreCaseAndLocationContainingIgnoreCase(
-                    keyword, location, pageable).map(this::mapToResponse);
-        } else if (keyword != null) {
-            jobs = jobRepository.findByTitleContainingIgnoreCase(keyword, pageable)
-                    .map(this::mapToResponse);
-        } else if (location != null) {
-            jobs = jobRepository.findByLocationContainingIgnoreCase(location, pageable)
-                    .map(this::mapToResponse);
-        } else {
-            jobs = jobRepository.findAll(pageable).map(this::mapToResponse);
+        if (keyword == null && location == null) {
+            if (sortField.equals(RELEVANCE)) {
+                throw new RuntimeException("sortBy=relevance needs a keyword");
+            }
+            Page<JobResponse> jobs = jobRepository.findAll(pageable).map(this::mapToResponse);
+            return ApiResponse.success("Jobs fetched successfully", jobs);
         }
 
+        // Match and rank from the index; the database only hydrates the requested page
+        List<JobSearchIndex.Hit> hits = searchIndex.search(keyword, location,
+                byRelevance(keyword, sortField), sortDirection == Sort.Direction.DESC);
+        List<Integer> hitIds = hits.stream().map(JobSearchIndex.Hit::jobId).toList();
+        // Hits for jobs deleted on another replica since this index last saw them are neither counted nor shown
+        Set<Integer> existing = hitIds.isEmpty() ? Set.of() : jobRepository.findExistingIds(hitIds);
+        List<Integer> ids = hitIds.stream().filter(existing::contains).toList();
+        List<Integer> pageIds = ids.stream()
+                .skip(pageable.getOffset())
+                .limit(size)
+                .toList();
+        Page<JobResponse> jobs = new PageImpl<>(hydrate(pageIds), pageable, ids.size());
         return ApiResponse.success("Jobs fetched successfully", jobs);
     }
 
+    @Transactional(readOnly = true)
+    public ApiResponse<CursorPage<JobResponse>> searchJobsByCursor(String keyword, String location,
+                                                                  String cursor, int size,
+                                                                  String sortBy, String direction) {
+        String sortField = sortField(keyword, sortBy);
+        boolean newestFirst = direction.equalsIgnoreCase("desc");
+
+        if (keyword == null && location == null) {
+            if (!sortField.equals("createdAt")) {
+                throw new RuntimeException("Cursor pagination only supports sortBy=createdAt");
+            }
+            Sort.Direction sortDirection = newestFirst ? Sort.Direction.DESC : Sort.Direction.ASC;
+            // One extra row tells whether another page exists
+            Pageable limit = PageRequest.of(0, size + 1, Sort.by(sortDirection, "createdAt", "id"));
+            List<Job> rows;
+            if (cursor.isEmpty()) {
+                rows = jobRepository.findPageBy(limit);
+            } else {
+                String[] position = CursorCodec.decode(cursor, 2);
+                LocalDateTime createdAt = LocalDateTime.parse(position[0]);
+                int id = Integer.parseInt(position[1]);
+                rows = newestFirst
+                        ? jobRepository.findPageBefore(createdAt, id, limit)
+                        : jobRepository.findPageAfter(createdAt, id, limit);
+            }
+
+            boolean hasNext = rows.size() > size;
+            List<Job> pageRows = hasNext ? rows.subList(0, size) : rows;
+            Job last = hasNext ? pageRows.get(size - 1) : null;
+            String nextCursor = last != null ? CursorCodec.encode(last.getCreatedAt(), last.getId()) : null;
+            List<JobResponse> content = pageRows.stream().map(this::mapToResponse).toList();
+            return ApiResponse.success("Jobs fetched successfully", new CursorPage<>(content, nextCursor, hasNext));
+        }
+
+        JobSearchIndex.Hit after = null;
+        if (!cursor.isEmpty()) {
+            String[] position = CursorCodec.decode(cursor, 3);
+            after = new JobSearchIndex.Hit(Integer.parseInt(position[2]), Double.parseDouble(position[0]),
+                    position[1].isEmpty() ? null : LocalDateTime.parse(position[1]));
+        }
+        List<JobSearchIndex.Hit> hits = searchIndex.search(keyword, location,
+                byRelevance(keyword, sortField), newestFirst, after);
+
+        // Hydrate window by window, skipping hits for deleted jobs, until one row past the page
+        List<JobSearchIndex.Hit> found = new ArrayList<>();
+        Map<Integer, Job> rows = new HashMap<>();
+        for (int from = 0; from < hits.size() && found.size() <= size; from += size + 1) {
+            List<JobSearchIndex.Hit> window = hits.subList(from, Math.min(from + size + 1, hits.size()));
+            jobRepository.findAllById(window.stream().map(JobSearchIndex.Hit::jobId).toList())
+                    .forEach(job -> rows.put(job.getId(), job));
+            window.stream().filter(hit -> rows.containsKey(hit.jobId())).forEach(found::add);
+        }
+        boolean hasNext = found.size() > size;
+        List<JobSearchIndex.Hit> pageHits = found.subList(0, Math.min(size, found.size()));
+        JobSearchIndex.Hit last = hasNext ? pageHits.get(size - 1) : null;
+        String nextCursor = last != null
+                ? CursorCodec.encode(last.score(), last.createdAt(), last.jobId()) : null;
+        List<JobResponse> content = pageHits.stream()
+                .map(hit -> mapToResponse(rows.get(hit.jobId())))
+                .toList();
+        return ApiResponse.success("Jobs fetched successfully", new CursorPage<>(content, nextCursor, hasNext));
+    }
+
     public ApiResponse<List<JobResponse>> getJobsByUser(int userId) {
         List<JobResponse> jobs = jobRepository.findByPostedBy(userId)
                 .stream()
@@ -101,6 +230,37 @@ public class JobService {
         return ApiResponse.success("User jobs fetched", jobs);
     }
 
+    // Keyword searches rank by relevance unless another order is asked for
+    private static String sortField(String keyword, String sortBy) {
+        if (sortBy != null && !sortBy.isBlank()) {
+            return sortBy;
+        }
+        return keyword != null ? RELEVANCE : "createdAt";
+    }
+
+    // The index can order by relevance (keyword searches only) or by creation time
+    private static boolean byRelevance(String keyword, String sortField) {
+        if (sortField.equals(RELEVANCE) && keyword != null) {
+            return true;
+        }
+        if (sortField.equals("createdAt")) {
+            return false;
+        }
+        throw new RuntimeException("Keyword and location searches only support sortBy=relevance or sortBy=createdAt");
+    }
+
+    // Loads the given jobs in one query, preserving the order of the ids
+    private List<JobResponse> hydrate(List<Integer> jobIds) {
+        Map<Integer, Job> jobs = jobRepository.findAllById(jobIds)
+                .stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return jobIds.stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .toList();
+    }
+
     private JobResponse mapToResponse(Job job) {
         return new JobResponse(
                 job.getId(),
@@ -0,0 +1,16 @@
+-- Tables added since the ddl-auto schema in V1. Databases baselined at V1 get them here; "if not exists"
+-- keeps databases that ddl-auto already extended with them working
+
+create table if not exists outbox_event (
+    id bigint not null,
+    type varchar(255) not null,
+    aggregate_id integer not null,
+    occurred_at datetime(6) not null,
+    primary key (id)
+);
+
+create table if not exists outbox_event_seq (
+    next_val bigint
+);
+
+insert into outbox_event_seq (next_val) select 1 from dual where not exists (select * from outbox_event_seq);
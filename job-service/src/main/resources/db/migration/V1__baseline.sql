@@ -0,0 +1,14 @@
+-- Schema as previously generated by ddl-auto=update; existing databases are baselined at this version
+create table job (
+    id integer not null auto_increment,
+    title varchar(255) not null,
+    description varchar(255) not null,
+    location varchar(255) not null,
+    company_name varchar(255) not null,
+    salary varchar(255) not null,
+    job_type varchar(255) not null,
+    posted_by integer not null,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_job_title unique (title)
+);
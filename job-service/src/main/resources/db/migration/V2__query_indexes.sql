@@ -0,0 +1,5 @@
+-- findByPostedBy
+create index idx_job_posted_by on job (posted_by);
+
+-- Default listing sort (createdAt desc) and keyset pages on (createdAt, id); ascending pages scan it backwards
+create index idx_job_created_at_id on job (created_at desc, id desc);
@@ -0,0 +1,4 @@
+-- Per-target delivery state so the relay retries only failed subscribers, with backoff
+alter table outbox_event add column attempts integer not null default 0;
+alter table outbox_event add column next_attempt_at datetime(6);
+alter table outbox_event add column delivered_to varchar(255);
@@ -0,0 +1,96 @@
+package com.jobportal.job.controller;
+
+import com.jobportal.common.exception.ResourceNotFoundException;
+import com.jobportal.job.dto.BulkJobResult;
+import com.jobportal.job.dto.JobRequest;
+import com.jobportal.job.service.JobBulkImporter;
+import com.jobportal.job.service.JobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(JobController.class)
+class JobControllerTest {
+    private static final String JOB = "{\"title\":\"%s\",\"description\":\"d\",\"location\":\"Remote\","
+            + "\"companyName\":\"Acme\",\"salary\":\"100\",\"jobType\":\"FULL_TIME\"}";
+    private static final String RESULT = "{\"index\":%d,\"title\":\"%s\",\"status\":\"CREATED\","
+            + "\"jobId\":%1$d,\"message\":null}\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JobService jobService;
+
+    @MockBean
+    private JobBulkImporter bulkImporter;
+
+    @Test
+    void bulkImportReadsAJsonArray() throws Exception {
+        String body = "[" + JOB.formatted("Java Developer") + "," + JOB.formatted("Data Analyst") + "]";
+
+        assertThat(bulkImport(MediaType.APPLICATION_JSON, body))
+                .isEqualTo(RESULT.formatted(0, "Java Developer") + RESULT.formatted(1, "Data Analyst"));
+    }
+
+    @Test
+    void bulkImportReadsNdjson() throws Exception {
+        String body = JOB.formatted("Java Developer") + "\n" + JOB.formatted("Data Analyst") + "\n";
+
+        assertThat(bulkImport(MediaType.APPLICATION_NDJSON, body))
+                .isEqualTo(RESULT.formatted(0, "Java Developer") + RESULT.formatted(1, "Data Analyst"));
+    }
+
+    @Test
+    void missingJobIsNotFound() throws Exception {
+        when(jobService.getJobById(42)).thenThrow(new ResourceNotFoundException("Job not found"));
+
+        mockMvc.perform(get("/api/jobs/42")).andExpect(status().isNotFound());
+    }
+
+    // Echoes every parsed request as CREATED, so the response shows what was read and in which order
+    private String bulkImport(MediaType contentType, String body) throws Exception {
+        doAnswer(invocation -> {
+            Iterator<JobRequest> requests = invocation.getArgument(0);
+            Consumer<BulkJobResult> results = invocation.getArgument(2);
+            int index = 0;
+            while (requests.hasNext()) {
+                results.accept(new BulkJobResult(index, requests.next().getTitle(), "CREATED", index, null));
+                index++;
+            }
+            return null;
+        }).when(bulkImporter).importJobs(any(), eq(7), any());
+
+        MvcResult started = mockMvc.perform(post("/api/jobs/bulk")
+                        .contentType(contentType)
+                        .header("X-User-Id", 7)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.jobportal.job.repository;
+
+import com.jobportal.job.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Walks every keyset page in both directions; ties on createdAt must neither repeat nor skip rows
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:job_keyset;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobRepositoryTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private List<Job> jobs;
+
+    @BeforeEach
+    void insertJobs() {
+        jobRepository.deleteAll();
+        // Three jobs share a timestamp so a page boundary falls inside the tie
+        int[] hours = {1, 2, 2, 2, 3, 4, 5};
+        jobs = new ArrayList<>();
+        for (int i = 0; i < hours.length; i++) {
+            jobs.add(jobRepository.save(new Job(0, "Job " + i, "d", "l", "c", "s", "t", 1, NOW.plusHours(hours[i]))));
+        }
+    }
+
+    @Test
+    void newestFirstPagesCoverEveryJobOnce() {
+        Pageable limit = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        List<Integer> seen = new ArrayList<>();
+        List<Job> page = jobRepository.findPageBy(limit);
+        while (!page.isEmpty()) {
+            page.forEach(job -> seen.add(job.getId()));
+            Job last = page.get(page.size() - 1);
+            page = jobRepository.findPageBefore(last.getCreatedAt(), last.getId(), limit);
+        }
+
+        assertThat(seen).containsExactlyElementsOf(ids(Comparator.comparing(Job::getCreatedAt)
+                .thenComparingInt(Job::getId).reversed()));
+    }
+
+    @Test
+    void oldestFirstPagesCoverEveryJobOnce() {
+        Pageable limit = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.ASC, "createdAt", "id"));
+        List<Integer> seen = new ArrayList<>();
+        List<Job> page = jobRepository.findPageBy(limit);
+        while (!page.isEmpty()) {
+            page.forEach(job -> seen.add(job.getId()));
+            Job last = page.get(page.size() - 1);
+            page = jobRepository.findPageAfter(last.getCreatedAt(), last.getId(), limit);
+        }
+
+        assertThat(seen).containsExactlyElementsOf(ids(Comparator.comparing(Job::getCreatedAt)
+                .thenComparingInt(Job::getId)));
+    }
+
+    private List<Integer> ids(Comparator<Job> order) {
+        return jobs.stream().sorted(order).map(Job::getId).toList();
+    }
+}
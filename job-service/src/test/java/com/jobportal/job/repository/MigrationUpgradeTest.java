@@ -0,0 +1,56 @@
+package com.jobportal.job.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Upgrades a database created by ddl-auto before the migrations existed: baselined at V1, then migrated
+class MigrationUpgradeTest {
+
+    @Test
+    void preMigrationDatabaseIsBaselinedAndMigrated() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:job_upgrade;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        execute(dataSource,
+                "create table job (id integer not null auto_increment, title varchar(255) not null, " +
+                        "description varchar(255) not null, location varchar(255) not null, " +
+                        "company_name varchar(255) not null, salary varchar(255) not null, job_type varchar(255) not null, " +
+                        "posted_by integer not null, created_at datetime(6), primary key (id), " +
+                        "constraint UK_6hnfdmkw4prn0h4kkmyhbwdx4 unique (title))",
+                "insert into job (title, description, location, company_name, salary, job_type, posted_by, created_at) " +
+                        "values ('Java developer', 'd', 'l', 'c', 's', 't', 1, now())");
+
+        Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).load().migrate();
+
+        assertThat(query(dataSource, "select count(*) from job")).isEqualTo("1");
+        assertThat(query(dataSource, "select count(next_attempt_at) from outbox_event")).isEqualTo("0");
+        assertThat(query(dataSource, "select group_concat(next_val) from outbox_event_seq")).isEqualTo("1");
+        assertThat(query(dataSource, "select count(*) from information_schema.indexes " +
+                "where table_name = 'job' and index_name = 'idx_job_posted_by'")).isNotEqualTo("0");
+    }
+
+    private static void execute(JdbcDataSource dataSource, String... statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static String query(JdbcDataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
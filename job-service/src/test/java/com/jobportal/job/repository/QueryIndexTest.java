@@ -0,0 +1,80 @@
+package com.jobportal.job.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the migrations on H2 in MySQL mode and checks every repository query shape is served by an index
+class QueryIndexTest {
+    private static JdbcDataSource dataSource;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:job_db;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        // Enough rows for the cost-based optimizer to prefer the selective index over a scan
+        execute(
+                "insert into job (title, description, location, company_name, salary, job_type, posted_by, created_at) " +
+                        "select 'Job ' || x, 'd', 'l', 'c', 's', 't', mod(x, 100), dateadd('MINUTE', x, timestamp '2024-01-01 00:00:00') " +
+                        "from system_range(1, 5000) r(x)",
+                "analyze");
+    }
+
+    @Test
+    void findByPostedByUsesPostedByIndex() throws SQLException {
+        assertThat(explain("select * from job where posted_by = 1"))
+                .contains("idx_job_posted_by");
+    }
+
+    @Test
+    void defaultListingSortUsesCreatedAtIndex() throws SQLException {
+        String plan = explain("select * from job order by created_at desc, id desc limit 6");
+        assertThat(plan).contains("idx_job_created_at_id").contains("index sorted");
+    }
+
+    @Test
+    void keysetPageUsesCreatedAtIndex() throws SQLException {
+        String plan = explain("select * from job where created_at < '2024-01-01' " +
+                "or (created_at = '2024-01-01' and id < 10) order by created_at desc, id desc limit 6");
+        assertThat(plan).contains("idx_job_created_at_id").doesNotContain("tableScan");
+    }
+
+    @Test
+    void indexRebuildBatchSeeksPrimaryKey() throws SQLException {
+        String plan = explain("select * from job where id > 4500 order by id limit 1000");
+        assertThat(plan).contains("PRIMARY_KEY_1: id > 4500").contains("index sorted");
+    }
+
+    @Test
+    void titleLookupsUseUniqueConstraint() throws SQLException {
+        assertThat(explain("select title from job where title in ('a', 'b')"))
+                .contains("uk_job_title");
+    }
+
+    private static void execute(String... statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("explain " + sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+}
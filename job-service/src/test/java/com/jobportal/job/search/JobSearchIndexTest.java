@@ -0,0 +1,87 @@
+package com.jobportal.job.search;
+
+import com.jobportal.job.model.Job;
+import com.jobportal.job.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class JobSearchIndexTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private final JobSearchIndex index = new JobSearchIndex(mock(JobRepository.class));
+
+    @BeforeEach
+    void indexJobs() {
+        index.index(job(1, "Java Developer", "Acme", "Remote", "Backend services", 1));
+        index.index(job(2, "Frontend Engineer", "Initech", "Berlin", "React and some Java", 2));
+        index.index(job(3, "Data Analyst", "Acme", "Remote", "SQL reports", 3));
+        index.index(job(4, "Senior Java Engineer", "Globex", "Berlin", "Java and Spring", 4));
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        List<Integer> ids = ids(index.search("java", null, true, true));
+
+        // 4 and 1 match in the title (4 also in the description), 2 only in the description
+        assertThat(ids).containsExactly(4, 1, 2);
+    }
+
+    @Test
+    void lastTermMatchesAsPrefixAndAllTermsMustMatch() {
+        assertThat(ids(index.search("senior jav", null, true, true))).containsExactly(4);
+        assertThat(ids(index.search("jav senior", null, true, true))).isEmpty();
+    }
+
+    @Test
+    void locationFiltersKeywordMatches() {
+        assertThat(ids(index.search("java", "berlin", true, true))).containsExactly(4, 2);
+        assertThat(ids(index.search(null, "remote", false, false))).containsExactly(1, 3);
+    }
+
+    @Test
+    void keywordMatchesCanBeOrderedByCreationTime() {
+        assertThat(ids(index.search("java", null, false, true))).containsExactly(4, 2, 1);
+        assertThat(ids(index.search("java", null, false, false))).containsExactly(1, 2, 4);
+    }
+
+    @Test
+    void cursorResumesAfterTheLastHitInEitherOrder() {
+        List<JobSearchIndex.Hit> ranked = index.search("java", null, true, true);
+        assertThat(ids(index.search("java", null, true, true, ranked.get(0)))).containsExactly(1, 2);
+        assertThat(ids(index.search("java", null, true, true, ranked.get(2)))).isEmpty();
+
+        List<JobSearchIndex.Hit> oldest = index.search("java", null, false, false);
+        assertThat(ids(index.search("java", null, false, false, oldest.get(1)))).containsExactly(4);
+    }
+
+    @Test
+    void cursorOnADeletedHitResumesAtItsPosition() {
+        List<JobSearchIndex.Hit> ranked = index.search("java", null, true, true);
+        index.remove(1);
+
+        // The removed hit is not found, so binarySearch's insertion point is used
+        assertThat(ids(index.search("java", null, true, true, ranked.get(1)))).containsExactly(2);
+    }
+
+    @Test
+    void reindexingReplacesTheOldTerms() {
+        index.index(job(3, "Java Analyst", "Acme", "Remote", "SQL reports", 3));
+
+        assertThat(ids(index.search("java", "remote", true, true))).containsExactlyInAnyOrder(1, 3);
+        assertThat(ids(index.search("data", null, true, true))).isEmpty();
+    }
+
+    private static Job job(int id, String title, String company, String location, String description, int hour) {
+        return new Job(id, title, description, location, company, "100", "FULL_TIME", 7, NOW.plusHours(hour));
+    }
+
+    private static List<Integer> ids(List<JobSearchIndex.Hit> hits) {
+        return hits.stream().map(JobSearchIndex.Hit::jobId).toList();
+    }
+}
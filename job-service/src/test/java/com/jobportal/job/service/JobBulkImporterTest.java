@@ -0,0 +1,124 @@
+package com.jobportal.job.service;
+
+import com.jobportal.common.outbox.Outbox;
+import com.jobportal.job.dto.BulkJobResult;
+import com.jobportal.job.dto.JobRequest;
+import com.jobportal.job.model.Job;
+import com.jobportal.job.repository.JobRepository;
+import com.jobportal.job.search.JobSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Chunked JDBC inserts against the Flyway schema on H2; the JPA side is mocked
+class JobBulkImporterTest {
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final Outbox outbox = mock(Outbox.class);
+    private final JobSearchIndex searchIndex = mock(JobSearchIndex.class);
+    private final Cache secondLevelCache = mock(Cache.class);
+    private JdbcTemplate jdbcTemplate;
+    private JobBulkImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bulk_import;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).cleanDisabled(false).load().clean();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        when(jobRepository.findExistingTitles(anyList())).thenReturn(List.of());
+
+        importer = new JobBulkImporter(jobRepository, jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                outbox, searchIndex, entityManagerFactory, 2);
+    }
+
+    @Test
+    void reportsOneResultPerItemInRequestOrder() {
+        when(jobRepository.findExistingTitles(anyList())).thenReturn(List.of("EXISTING JOB"));
+
+        List<BulkJobResult> results = importJobs(
+                request("Java Developer"),
+                request("Existing Job"),
+                new JobRequest("No Description", null, "Remote", "Acme", "100", "FULL_TIME"),
+                request("java developer"),
+                request("Data Analyst"));
+
+        assertThat(results).extracting(BulkJobResult::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).extracting(BulkJobResult::getStatus)
+                .containsExactly("CREATED", "DUPLICATE", "INVALID", "DUPLICATE", "CREATED");
+        assertThat(results.get(0).getJobId()).isNotNull();
+        assertThat(results.get(4).getJobId()).isGreaterThan(results.get(0).getJobId());
+        assertThat(jdbcTemplate.queryForList("select title from job order by id", String.class))
+                .containsExactly("Java Developer", "Data Analyst");
+    }
+
+    @Test
+    void generatedKeysComeBackForEveryRowOfABatch() {
+        List<BulkJobResult> results = importJobs(
+                IntStream.range(0, 5).mapToObj(i -> request("Job " + i)).toArray(JobRequest[]::new));
+
+        List<Integer> stored = jdbcTemplate.queryForList("select id from job order by id", Integer.class);
+        assertThat(results).extracting(BulkJobResult::getJobId).containsExactlyElementsOf(stored);
+        // Three chunks of at most two, each with its outbox events and index updates
+        verify(outbox, times(3)).appendAll(anyList());
+        verify(searchIndex, times(5)).index(any(Job.class));
+    }
+
+    @Test
+    void evictsCachedQueryResultsAfterEachCommittedChunk() {
+        importJobs(request("Job 1"), request("Job 2"), request("Job 3"));
+
+        verify(secondLevelCache, times(2)).evictDefaultQueryRegion();
+    }
+
+    @Test
+    void failedChunkIsRolledBackAndNothingIsEvicted() {
+        jdbcTemplate.update("insert into job (title, description, location, company_name, salary, job_type, posted_by) "
+                + "values ('Taken', 'd', 'l', 'c', 's', 't', 1)");
+
+        // Not reported as existing, as when another request inserts the title concurrently
+        List<BulkJobResult> results = importJobs(request("Fresh"), request("Taken"));
+
+        assertThat(results).extracting(BulkJobResult::getStatus).containsExactly("FAILED", "FAILED");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from job", Integer.class)).isEqualTo(1);
+        verify(outbox, never()).appendAll(anyList());
+        verify(searchIndex, never()).index(any(Job.class));
+        verify(secondLevelCache, never()).evictDefaultQueryRegion();
+    }
+
+    private List<BulkJobResult> importJobs(JobRequest... requests) {
+        List<BulkJobResult> results = new ArrayList<>();
+        importer.importJobs(List.of(requests).iterator(), 7, results::add);
+        return results;
+    }
+
+    private static JobRequest request(String title) {
+        return new JobRequest(title, "Description", "Remote", "Acme", "100", "FULL_TIME");
+    }
+}
@@ -0,0 +1,94 @@
+package com.jobportal.job.service;
+
+import com.jobportal.common.dto.CursorPage;
+import com.jobportal.common.outbox.Outbox;
+import com.jobportal.job.dto.JobResponse;
+import com.jobportal.job.feign.UserServiceClient;
+import com.jobportal.job.model.Job;
+import com.jobportal.job.repository.JobRepository;
+import com.jobportal.job.search.JobSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JobServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final JobSearchIndex searchIndex = mock(JobSearchIndex.class);
+    private final JobService jobService = new JobService(jobRepository, mock(EntityManager.class),
+            mock(UserServiceClient.class), mock(Outbox.class), searchIndex);
+
+    @Test
+    void keywordSearchRanksByRelevanceUnlessCreatedAtIsAsked() {
+        when(searchIndex.search(eq("java"), eq(null), eq(true), eq(true))).thenReturn(List.of());
+        when(searchIndex.search(eq("java"), eq(null), eq(false), eq(false))).thenReturn(List.of());
+
+        jobService.searchJobs("java", null, 0, 5, null, "desc");
+        jobService.searchJobs("java", null, 0, 5, "createdAt", "asc");
+
+        verify(searchIndex).search("java", null, true, true);
+        verify(searchIndex).search("java", null, false, false);
+    }
+
+    @Test
+    void indexSearchRejectsSortFieldsItCannotOrderBy() {
+        assertThatThrownBy(() -> jobService.searchJobs("java", null, 0, 5, "salary", "desc"))
+                .hasMessageContaining("sortBy=relevance or sortBy=createdAt");
+        assertThatThrownBy(() -> jobService.searchJobs(null, "remote", 0, 5, "relevance", "desc"))
+                .hasMessageContaining("sortBy=relevance or sortBy=createdAt");
+        assertThatThrownBy(() -> jobService.searchJobs(null, null, 0, 5, "relevance", "desc"))
+                .hasMessageContaining("needs a keyword");
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    void totalCountsOnlyHitsThatStillExist() {
+        when(searchIndex.search("java", null, true, true)).thenReturn(List.of(hit(1), hit(2), hit(3), hit(4)));
+        when(jobRepository.findExistingIds(List.of(1, 2, 3, 4))).thenReturn(Set.of(1, 3, 4));
+        when(jobRepository.findAllById(List.of(3))).thenReturn(List.of(job(3)));
+
+        Page<JobResponse> page = jobService.searchJobs("java", null, 1, 1, null, "desc").getData();
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(JobResponse::getId).containsExactly(3);
+    }
+
+    @Test
+    void cursorPageSkipsDeletedHitsAndStillFillsThePage() {
+        when(searchIndex.search(eq("java"), eq(null), eq(true), eq(true), any()))
+                .thenReturn(List.of(hit(1), hit(2), hit(3), hit(4), hit(5)));
+        when(jobRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            List<Integer> ids = invocation.getArgument(0);
+            return ids.stream().filter(id -> id != 2).map(JobServiceTest::job).toList();
+        });
+
+        CursorPage<JobResponse> page = jobService.searchJobsByCursor("java", null, "", 2, null, "desc").getData();
+
+        assertThat(page.getContent()).extracting(JobResponse::getId).containsExactly(1, 3);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    private static JobSearchIndex.Hit hit(int id) {
+        return new JobSearchIndex.Hit(id, 10.0 - id, NOW.minusHours(id));
+    }
+
+    private static Job job(int id) {
+        return new Job(id, "Job " + id, "Description", "Remote", "Acme", "100", "FULL_TIME", 7, NOW.minusHours(id));
+    }
+}
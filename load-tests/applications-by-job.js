@@ -0,0 +1,34 @@
+// k6 load test for the application-service fan-out path (Feign calls to job-service and user-service).
+//
+//   k6 run -e TOKEN=<employer jwt> -e JOB_ID=1 load-tests/applications-by-job.js
+//
+// Run once against the default platform-thread services and once with the "virtual" profile,
+// then compare http_reqs (throughput) and the p(99) of http_req_duration.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const JOB_ID = __ENV.JOB_ID || '1';
+const PAGE_SIZE = __ENV.PAGE_SIZE || '20';
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 800 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const res = http.get(`${BASE_URL}/api/applications/job/${JOB_ID}?size=${PAGE_SIZE}`, {
+        headers: { Authorization: `Bearer ${__ENV.TOKEN}` },
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
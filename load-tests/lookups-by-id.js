@@ -0,0 +1,53 @@
+// k6 load test for the by-id lookups other services make on every Feign call:
+// GET /api/jobs/{id} and GET /api/users/{id}, spread over a fixed set of ids. Calls the services
+// directly, as Feign does, so the gateway's rate limits and response cache stay out of the numbers.
+//
+//   k6 run -e JOB_IDS=1-200 -e USER_IDS=1-200 load-tests/lookups-by-id.js
+//
+// Run once with the default job-service/user-service and once with the "l2cache" profile,
+// then compare http_reqs (throughput) and the p(99) of http_req_duration per endpoint.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const JOB_SERVICE_URL = __ENV.JOB_SERVICE_URL || 'http://localhost:8082';
+const USER_SERVICE_URL = __ENV.USER_SERVICE_URL || 'http://localhost:8081';
+
+function range(spec) {
+    const [from, to] = (spec || '1-100').split('-').map(Number);
+    return Array.from({ length: to - from + 1 }, (_, i) => from + i);
+}
+
+const JOB_IDS = range(__ENV.JOB_IDS);
+const USER_IDS = range(__ENV.USER_IDS);
+
+export const options = {
+    scenarios: {
+        jobs: {
+            executor: 'constant-vus',
+            vus: 100,
+            duration: '1m',
+            exec: 'getJob',
+        },
+        users: {
+            executor: 'constant-vus',
+            vus: 100,
+            duration: '1m',
+            exec: 'getUser',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function pick(ids) {
+    return ids[Math.floor(Math.random() * ids.length)];
+}
+
+export function getJob() {
+    const res = http.get(`${JOB_SERVICE_URL}/api/jobs/${pick(JOB_IDS)}`, { tags: { endpoint: 'job' } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function getUser() {
+    const res = http.get(`${USER_SERVICE_URL}/api/users/${pick(USER_IDS)}`, { tags: { endpoint: 'user' } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
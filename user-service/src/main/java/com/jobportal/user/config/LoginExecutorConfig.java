@@ -0,0 +1,24 @@
+package com.jobportal.user.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class LoginExecutorConfig {
+
+    // BCrypt runs here, off the request threads; one thread per spare core, and overflow is
+    // rejected (503) rather than queued behind a login storm
+    @Bean
+    public ThreadPoolTaskExecutor loginExecutor(@Value("${login.executor.pool-size:0}") int poolSize,
+                                                @Value("${login.executor.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("login-");
+        return executor;
+    }
+}
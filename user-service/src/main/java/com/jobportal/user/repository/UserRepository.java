@@ -2,9 +2,19 @@ package com.jobportal.user.repository;
 
 import com.jobportal.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Compare-and-set so a concurrent password change is not overwritten by a rehash
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int replacePasswordHash(int id, String oldHash, String newHash);
 }
\ No newline at end of file
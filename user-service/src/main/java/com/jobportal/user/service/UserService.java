@@ -1,38 +1,90 @@
 package com.jobportal.user.service;
 
 import com.jobportal.common.dto.ApiResponse;
+import com.jobportal.common.event.DomainEvent;
+import com.jobportal.common.event.EventTypes;
 import com.jobportal.common.exception.ResourceNotFoundException;
+import com.jobportal.common.metrics.MetricNames;
+import com.jobportal.common.outbox.Outbox;
 import com.jobportal.user.config.JwtUtil;
 import com.jobportal.user.dto.LoginRequest;
 import com.jobportal.user.dto.SignupRequest;
 import com.jobportal.user.dto.UserResponse;
 import com.jobportal.user.model.User;
 import com.jobportal.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final Outbox outbox;
+    private final ThreadPoolTaskExecutor loginExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int bcryptStrength;
+    private final long loginTimeoutMs;
+
+    public UserService(UserRepository userRepository,
+                       EntityManager entityManager,
+                       PasswordEncoder passwordEncoder,
+                       JwtUtil jwtUtil,
+                       Outbox outbox,
+                       @Qualifier("loginExecutor") ThreadPoolTaskExecutor loginExecutor,
+                       MeterRegistry meterRegistry,
+                       @Value("${security.bcrypt.strength:10}") int bcryptStrength,
+                       @Value("${login.timeout-ms:2000}") long loginTimeoutMs) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+        this.outbox = outbox;
+        this.loginExecutor = loginExecutor;
+        this.meterRegistry = meterRegistry;
+        this.bcryptStrength = bcryptStrength;
+        this.loginTimeoutMs = loginTimeoutMs;
+    }
 
     public ApiResponse<String> login(LoginRequest request) {
+        // Not a 404, so an unknown email answers like a wrong password
         User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+                .orElseThrow(() -> new RuntimeException("User not found"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        PasswordCheck check = checkPassword(request.getPassword(), user.getPassword());
+        if (!check.matches()) {
             throw new RuntimeException("Incorrect password");
         }
+        if (check.rehash() != null) {
+            userRepository.replacePasswordHash(user.getId(), user.getPassword(), check.rehash());
+        }
 
         String token = jwtUtil.generateToken(user);
         return ApiResponse.success("Login successful", token);
     }
 
+    @Transactional
     public ApiResponse<Void> signup(SignupRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already registered");
@@ -44,34 +96,98 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         user.setRole(request.getRole());
         user.setCreatedAt(LocalDateTime.now());
-        userRepository.save(user);
+        User saved = userRepository.save(user);
+        outbox.append(DomainEvent.of(EventTypes.USER_CREATED, saved.getId()));
 
         return ApiResponse.success("Signup successful", null);
     }
 
+    @Transactional(readOnly = true)
     public ApiResponse<UserResponse> getUserById(int id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return ApiResponse.success("User fetched", mapToResponse(user));
+    }
 
-        UserResponse response = new UserResponse();
-        response.setUserId(user.getId());
-        response.setName(user.getName());
-        response.setEmail(user.getEmail());
-        response.setRole(user.getRole());
-
-        return ApiResponse.success("User fetched", response);
+    @Transactional(readOnly = true)
+    public ApiResponse<List<UserResponse>> getUsersByIds(List<Integer> ids) {
+        // multiLoad checks the second-level cache per id before querying the rest
+        List<UserResponse> users = entityManager.unwrap(Session.class)
+                .byMultipleIds(User.class)
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .toList();
+        return ApiResponse.success("Users fetched", users);
     }
 
     public ApiResponse<UserResponse> getUserByEmail(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return ApiResponse.success("User fetched", mapToResponse(user));
+    }
+
+    /**
+     * Runs BCrypt on the login executor so a login storm cannot take the request threads that
+     * serve user lookups. A full queue or a check that does not finish within
+     * {@code login.timeout-ms} fails fast with 503. On a match, a hash whose cost differs from
+     * {@code security.bcrypt.strength} is re-encoded in the same task.
+     */
+    private PasswordCheck checkPassword(String password, String hash) {
+        Future<PasswordCheck> check;
+        try {
+            check = loginExecutor.submit(() -> {
+                if (!passwordEncoder.matches(password, hash)) {
+                    return new PasswordCheck(false, null);
+                }
+                boolean rehash = bcryptCost(hash) != bcryptStrength;
+                return new PasswordCheck(true, rehash ? passwordEncoder.encode(password) : null);
+            });
+        } catch (RejectedExecutionException e) {
+            throw loginRejected("saturated");
+        }
+
+        try {
+            return check.get(loginTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            check.cancel(true);
+            throw loginRejected("timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw loginRejected("interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password check failed", e.getCause());
+        }
+    }
 
+    private ResponseStatusException loginRejected(String reason) {
+        meterRegistry.counter(MetricNames.USER_LOGIN_REJECTED, "reason", reason).increment();
+        log.warn("Login rejected: {}", reason);
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many logins in progress, retry shortly");
+    }
+
+    // Cost factor of a "$2a$10$..." hash, or -1 when the hash is not BCrypt
+    private static int bcryptCost(String hash) {
+        if (hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record PasswordCheck(boolean matches, String rehash) {
+    }
+
+    private UserResponse mapToResponse(User user) {
         UserResponse response = new UserResponse();
         response.setUserId(user.getId());
         response.setName(user.getName());
         response.setEmail(user.getEmail());
         response.setRole(user.getRole());
-
-        return ApiResponse.success("User fetched", response);
+        return response;
     }
 }
\ No newline at end of file
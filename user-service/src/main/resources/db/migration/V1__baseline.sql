@@ -0,0 +1,11 @@
+-- Schema as previously generated by ddl-auto=update; existing databases are baselined at this version
+create table users (
+    id integer not null auto_increment,
+    name varchar(255) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    created_at datetime(6),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
@@ -0,0 +1,59 @@
+package com.jobportal.user.repository;
+
+import com.jobportal.user.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The login rehash must not overwrite a password that changed while BCrypt was running
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user_rehash;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRepositoryTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void replacesTheHashItWasComputedFrom() {
+        int id = insertUser("$2a$04$old");
+
+        assertThat(userRepository.replacePasswordHash(id, "$2a$04$old", "$2a$10$new")).isEqualTo(1);
+
+        assertThat(passwordOf(id)).isEqualTo("$2a$10$new");
+    }
+
+    @Test
+    void leavesAPasswordChangedInTheMeantime() {
+        int id = insertUser("$2a$10$changed");
+
+        assertThat(userRepository.replacePasswordHash(id, "$2a$04$old", "$2a$10$rehash")).isZero();
+
+        assertThat(passwordOf(id)).isEqualTo("$2a$10$changed");
+    }
+
+    private int insertUser(String hash) {
+        User user = new User(0, "Jane", "jane@example.com", hash, "JOBSEEKER", LocalDateTime.now());
+        int id = entityManager.persistAndFlush(user).getId();
+        entityManager.clear();
+        return id;
+    }
+
+    private String passwordOf(int id) {
+        entityManager.clear();
+        return userRepository.findById(id).orElseThrow().getPassword();
+    }
+}
@@ -0,0 +1,147 @@
+package com.jobportal.user.service;
+
+import com.jobportal.common.metrics.MetricNames;
+import com.jobportal.common.outbox.Outbox;
+import com.jobportal.user.config.JwtUtil;
+import com.jobportal.user.dto.LoginRequest;
+import com.jobportal.user.model.User;
+import com.jobportal.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+    private static final String PASSWORD = "s3cret";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor loginExecutor = new ThreadPoolTaskExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    UserServiceTest() {
+        // One thread and no queue, so a single slow check saturates it
+        loginExecutor.setCorePoolSize(1);
+        loginExecutor.setMaxPoolSize(1);
+        loginExecutor.setQueueCapacity(0);
+        loginExecutor.initialize();
+        when(jwtUtil.generateToken(any(User.class))).thenReturn("token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    void slowPasswordCheckTimesOutWith503() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = mock(PasswordEncoder.class);
+        when(slowEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return true;
+        });
+        givenUser("$2a$04$whatever");
+
+        assertThatThrownBy(() -> service(slowEncoder, 4, 50).login(login()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThat(rejected("timeout")).isEqualTo(1);
+        // The abandoned check is cancelled so it gives its thread back
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(jwtUtil, never()).generateToken(any(User.class));
+    }
+
+    @Test
+    void saturatedExecutorRejectsWith503WithoutWaiting() {
+        loginExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        givenUser(new BCryptPasswordEncoder(4).encode(PASSWORD));
+
+        assertThatThrownBy(() -> service(new BCryptPasswordEncoder(4), 4, 60_000).login(login()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThat(rejected("saturated")).isEqualTo(1);
+        assertThat(rejected("timeout")).isZero();
+    }
+
+    @Test
+    void hashAtAnotherCostIsReplacedOnlyIfUnchanged() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(5);
+        String oldHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        givenUser(oldHash);
+
+        assertThat(service(encoder, 5, 5_000).login(login()).getData()).isEqualTo("token");
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).replacePasswordHash(eq(7), eq(oldHash), newHash.capture());
+        assertThat(newHash.getValue()).startsWith("$2a$05$");
+        assertThat(encoder.matches(PASSWORD, newHash.getValue())).isTrue();
+    }
+
+    @Test
+    void hashAtTheConfiguredCostOrAWrongPasswordIsNotRehashed() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        givenUser(encoder.encode(PASSWORD));
+        UserService service = service(encoder, 4, 5_000);
+
+        service.login(login());
+        assertThatThrownBy(() -> service.login(new LoginRequest("jane@example.com", "wrong")))
+                .hasMessage("Incorrect password");
+
+        verify(userRepository, never()).replacePasswordHash(anyInt(), anyString(), anyString());
+        assertThat(meterRegistry.find(MetricNames.USER_LOGIN_REJECTED).counters()).isEmpty();
+    }
+
+    private UserService service(PasswordEncoder encoder, int bcryptStrength, long timeoutMs) {
+        return new UserService(userRepository, mock(EntityManager.class), encoder, jwtUtil,
+                mock(Outbox.class), loginExecutor, meterRegistry, bcryptStrength, timeoutMs);
+    }
+
+    private void givenUser(String hash) {
+        User user = new User(7, "Jane", "jane@example.com", hash, "JOBSEEKER", null);
+        when(userRepository.findByEmail("jane@example.com")).thenReturn(Optional.of(user));
+    }
+
+    private static LoginRequest login() {
+        return new LoginRequest("jane@example.com", PASSWORD);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.counter(MetricNames.USER_LOGIN_REJECTED, "reason", reason).count();
+    }
+}